@@ -0,0 +1,116 @@
+package cz.spsejecna.universeclash;
+
+import java.util.random.RandomGenerator;
+
+public final class AliasTable {
+
+    private final int[] ids;
+    private final double[] weights;
+    private final double[] prob;
+    private final int[] alias;
+
+    /**
+     * Builds a table drawing the given IDs in proportion to their weights, using Vose's alias method.
+     * Building takes linear time once, after which every draw is a single uniform column pick
+     * and one biased coin flip, no matter how many entries the catalog has.
+     *
+     * @param ids The IDs that can be drawn.
+     * @param weights The non-negative weight of each ID, in the same order as `ids`.
+     * @throws IllegalArgumentException If the arrays differ in length, a weight is negative or not finite,
+     * or no weight is positive.
+     */
+    public AliasTable(int[] ids, double[] weights) {
+        if (ids.length != weights.length) {
+            throw new IllegalArgumentException("Every ID needs exactly one weight.");
+        }
+        int n = ids.length;
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("Invalid draft weight " + weight);
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one draft weight has to be positive.");
+        }
+        this.ids = ids.clone();
+        this.weights = weights.clone();
+        this.prob = new double[n];
+        this.alias = new int[n];
+
+        // Scale the weights so they average 1, then pair every column below 1 with one above it
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = scaled[l] + scaled[s] - 1;
+            if (scaled[l] < 1) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+        // Whatever is left over is full up to rounding errors
+        while (largeCount > 0) {
+            prob[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            prob[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Draws the position of an entry in proportion to its weight in constant time.
+     *
+     * @param rand The random generator to draw with.
+     * @return The position of the drawn entry, see `getId` and `getWeight`.
+     */
+    public int draw(RandomGenerator rand) {
+        int column = rand.nextInt(prob.length);
+        return rand.nextDouble() < prob[column] ? column : alias[column];
+    }
+
+    /**
+     * Returns the number of entries in the table.
+     *
+     * @return The number of IDs.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the ID stored at the given position.
+     *
+     * @param position The position of the entry.
+     * @return The ID of the entry.
+     */
+    public int getId(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Returns the weight of the entry at the given position.
+     *
+     * @param position The position of the entry.
+     * @return The weight the entry was declared with.
+     */
+    public double getWeight(int position) {
+        return weights[position];
+    }
+}
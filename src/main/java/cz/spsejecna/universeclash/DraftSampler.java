@@ -0,0 +1,127 @@
+package cz.spsejecna.universeclash;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+public class DraftSampler {
+
+    // Past this many rejected draws in a row most of the weight is excluded, so scanning is cheaper
+    private static final int MAX_REJECTIONS = 32;
+
+    private final AliasTable table;
+    private final BitSet members = new BitSet();
+    private final BitSet excluded = new BitSet();
+    private int available;
+
+    /**
+     * Constructs a sampler drawing from the given weighted table.
+     * The table is shared and never modified; exclusions are kept by the sampler itself.
+     *
+     * @param table The `AliasTable` of every template that can be drafted, built when the catalog is loaded.
+     */
+    public DraftSampler(AliasTable table) {
+        this.table = table;
+        for (int i = 0; i < table.size(); i++) {
+            members.set(table.getId(i));
+        }
+        this.available = members.cardinality();
+    }
+
+    /**
+     * Constructs a sampler drawing uniformly from the given template IDs.
+     *
+     * @param ids The IDs of every template that can be drafted.
+     */
+    public DraftSampler(int[] ids) {
+        this(uniformTable(ids));
+    }
+
+    private static AliasTable uniformTable(int[] ids) {
+        double[] weights = new double[ids.length];
+        Arrays.fill(weights, 1);
+        return new AliasTable(ids, weights);
+    }
+
+    /**
+     * Removes every exclusion, making all IDs available again.
+     */
+    public void clearExclusions() {
+        excluded.clear();
+        available = members.cardinality();
+    }
+
+    /**
+     * Excludes an ID from the following draws, e.g. because that character is already in the party.
+     *
+     * @param id The ID to exclude.
+     */
+    public void exclude(int id) {
+        if (id >= 0 && !excluded.get(id)) {
+            excluded.set(id);
+            if (members.get(id)) {
+                available--;
+            }
+        }
+    }
+
+    /**
+     * Draws up to `count` distinct, non-excluded IDs, each in proportion to its weight, without replacement.
+     * Every draw is a constant time pick from the alias table which is simply repeated when it lands on an
+     * excluded or already drawn ID, so as long as those hold a small share of the weight the expected cost
+     * of a draw stays constant. Only when the draws keep getting rejected does it fall back to a linear scan.
+     * Nothing is allocated or copied.
+     *
+     * @param count The number of IDs to draw.
+     * @param out The array the drawn IDs are written to, at least `count` long.
+     * @param rand The random generator to draw with.
+     * @return The number of IDs drawn, less than `count` only if not enough IDs with a positive weight are available.
+     */
+    public int sample(int count, int[] out, RandomGenerator rand) {
+        int taken = 0;
+        while (taken < count && taken < available) {
+            int id = draw(rand);
+            if (id < 0) {
+                break;
+            }
+            // Exclude it for the rest of this call so every ID is drawn at most once
+            excluded.set(id);
+            out[taken++] = id;
+        }
+        for (int i = 0; i < taken; i++) {
+            excluded.clear(out[i]);
+        }
+        return taken;
+    }
+
+    private int draw(RandomGenerator rand) {
+        for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+            int id = table.getId(table.draw(rand));
+            if (!excluded.get(id)) {
+                return id;
+            }
+        }
+        double total = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (!excluded.get(table.getId(i))) {
+                total += table.getWeight(i);
+            }
+        }
+        if (total <= 0) {
+            return -1;
+        }
+        double r = rand.nextDouble() * total;
+        int last = -1;
+        for (int i = 0; i < table.size(); i++) {
+            int id = table.getId(i);
+            if (!excluded.get(id) && table.getWeight(i) > 0) {
+                last = id;
+                r -= table.getWeight(i);
+                if (r < 0) {
+                    return id;
+                }
+            }
+        }
+        return last;
+    }
+}
@@ -1,57 +1,190 @@
 package cz.spsejecna.universeclash;
-import cz.spsejecna.universeclash.abilities.AbilityUseOne;
-import cz.spsejecna.universeclash.abilities.AbilityUseTwo;
-import cz.spsejecna.universeclash.abilities.EnemyAbility1;
-import cz.spsejecna.universeclash.abilities.EnemyAbility2;
+import cz.spsejecna.universeclash.abilities.DamageCalculator;
 import cz.spsejecna.universeclash.cards.Card;
 import cz.spsejecna.universeclash.characters.Character;
 import cz.spsejecna.universeclash.cardManager.CardController;
 import cz.spsejecna.universeclash.cardManager.CardPicker;
+import cz.spsejecna.universeclash.controllers.ConsoleController;
+import cz.spsejecna.universeclash.controllers.Controller;
+import cz.spsejecna.universeclash.controllers.RandomController;
 import cz.spsejecna.universeclash.effects.Effect;
-import cz.spsejecna.universeclash.effects.EffectRepository;
+import cz.spsejecna.universeclash.eventBus.GameEventBus;
+import cz.spsejecna.universeclash.eventBus.GameEventTypeEnum;
 import cz.spsejecna.universeclash.items.Item;
 import cz.spsejecna.universeclash.items.ItemController;
 import cz.spsejecna.universeclash.items.ItemRepository;
 import cz.spsejecna.universeclash.partyManager.PartyController;
 import cz.spsejecna.universeclash.partyManager.PartyPicker;
-import java.util.ArrayList;
-import java.util.Objects;
-import java.util.Random;
-import java.util.Scanner;
+import cz.spsejecna.universeclash.synergies.Synergy;
+import cz.spsejecna.universeclash.synergies.SynergyRepository;
+import cz.spsejecna.universeclash.turns.PhaseTimer;
+import cz.spsejecna.universeclash.turns.TurnPhaseEnum;
+import cz.spsejecna.universeclash.turns.TurnPipeline;
+import cz.spsejecna.universeclash.turns.TurnSchedule;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
 public class Events {
     private int coins = 0; //The games currency
     private boolean lms = false; // lms stands for Last Man Standing
-    private int turn = 0; //turn count
-    private int fifteenthTurn = 15; // every 15 turns, something can happen
-    private int tenthTurn = 10; // every 10 turns, something can happen
     private int battle = 0; //battle count, once you hit game over, shows how many battles you lived
-    private final Random rand = new Random();
-    private final Scanner sc = new Scanner(System.in);
+    private int turnsPlayed = 0; // turns of every battle so far, never reset
+    private boolean gameOver = false; // set once the whole party is dead
+    private final SplittableRandom rand; // drives the game's own rolls, split off the session's generator
+    private final Controller controller; // makes every decision of the player
+    private final Controller enemyController;
+    private final Renderer renderer; // shows the state of the game
     private final ItemController itemController = new ItemController();
-    private final ItemRepository itemRepository = new ItemRepository();
+    private final ItemRepository itemRepository = GameData.get().getItemRepository();
     private final PartyController partyController = new PartyController();
-    private final PartyPicker partyPicker = new PartyPicker();
+    private final GameEventBus eventBus = partyController.getEventBus(); // card rules subscribe here once acquired
+    private final PartyPicker partyPicker;
     private final CardController cardController = new CardController();
-    private final CardPicker cardPicker = new CardPicker();
-    private final EffectRepository effectRepository = new EffectRepository();
-    private final Fight fight = new Fight();
-    private final AbilityUseOne ability1 = new AbilityUseOne();
-    private final AbilityUseTwo ability2 = new AbilityUseTwo();
-    private final EnemyAbility1 enemyAbility1 = new EnemyAbility1();
-    private final EnemyAbility2 enemyAbility2 = new EnemyAbility2();
+    private final CardPicker cardPicker;
+    private final SynergyRepository synergyRepository = GameData.get().getSynergyRepository();
+    private Synergy[] synergies = new Synergy[0]; // active synergies of the party composition in `synergyMask`
+    private long synergyMask = 0;
+    private final TurnPipeline pipeline = new TurnPipeline(); // what happens in a turn, and on which turns
+
+    /**
+     * Constructs a game played by a human through the console.
+     */
+    public Events() {
+        this(new ConsoleController(), System.out, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a game whose player decisions are all made by the given controller.
+     * Nothing in the turn loop reads the console on its own, so a game with a non-console
+     * controller runs without anybody at the keyboard.
+     *
+     * @param controller The `Controller` playing the player's side.
+     * @param out The `PrintStream` the state of the game is shown on.
+     * @param random The session's random generator. Every component drawing random numbers gets its own
+     *               generator split off this one, so a game is fully reproduced by the seed of `random`
+     *               and a different number of draws in one component never shifts the others.
+     */
+    public Events(Controller controller, PrintStream out, SplittableRandom random) {
+        this(controller, new Renderer(out), random);
+    }
+
+    /**
+     * Constructs a game like `Events(controller, out, random)`, shown by the given renderer,
+     * e.g. a quiet one for games nobody watches.
+     *
+     * @param controller The `Controller` playing the player's side.
+     * @param renderer The `Renderer` showing the state of the game.
+     * @param random The session's random generator.
+     */
+    public Events(Controller controller, Renderer renderer, SplittableRandom random) {
+        this.controller = controller;
+        this.renderer = renderer;
+        this.rand = random.split();
+        this.enemyController = new RandomController(random.split());
+        this.partyPicker = new PartyPicker(controller, random.split());
+        this.cardPicker = new CardPicker(controller, random.split());
+        registerTurnHandlers();
+    }
+    /**
+     * Lays out a turn of battle. Every turn the characters are shown and purified, both sides act,
+     * effects tick and the controller may use an item; synergies only run on their turns.
+     * Cards aren't part of it, they react to the events published on the bus.
+     */
+    private void registerTurnHandlers() {
+        pipeline.register(TurnPhaseEnum.START, TurnSchedule.everyTurn(), turn -> startTurn());
+        pipeline.register(TurnPhaseEnum.PLAYER, TurnSchedule.everyTurn(), turn -> fightBattle());
+        pipeline.register(TurnPhaseEnum.ENEMY, TurnSchedule.everyTurn(), turn -> fightEnemyBattle());
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.everyTurn(), turn -> endTurn());
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.every(10), turn -> triggerSynergies());
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.everyTurn(), eventBus::publishTurnEnd);
+        pipeline.register(TurnPhaseEnum.ITEMS, TurnSchedule.everyTurn(), turn -> useItem());
+    }
+    /**
+     * Sets the hook told how long every phase of every turn took, or `null` to stop timing.
+     *
+     * @param timer The `PhaseTimer` to report to.
+     */
+    public void setPhaseTimer(PhaseTimer timer) {
+        pipeline.setPhaseTimer(timer);
+    }
     /**
      * Initiates the game by running a sequence of battles and shop interactions.
-     * The game starts with three predefined battles, followed by an infinite loop
-     * of general battles and shop phases.
+     * The game starts with three predefined battles, followed by an endless loop
+     * of general battles and shop phases that only ends once the whole party is dead.
+     *
+     * @return The number of battles survived.
+     */
+    public int gamestart() {
+        return gamestart(Integer.MAX_VALUE);
+    }
+    /**
+     * Runs the game like `gamestart()`, but stops once the given number of battles has been survived.
+     * Automated runs use this to make sure a party that never dies can't keep a run going forever.
+     *
+     * @param battleLimit The number of survived battles after which the run is stopped.
+     * @return The number of battles survived.
      */
-    public void gamestart() {
+    public int gamestart(int battleLimit) {
         firstBattle();
-        secondBattle();
-        thirdBattle();
-        while (true) {
+        if (!gameOver) {
+            secondBattle();
+        }
+        if (!gameOver) {
+            thirdBattle();
+        }
+        while (!gameOver && battle < battleLimit) {
             battle();
-            shop();
+            if (!gameOver) {
+                shop();
+            }
         }
+        return battle;
+    }
+    /**
+     * Returns the number of battles survived so far. Once the game is over, this is its final result.
+     *
+     * @return The battle count.
+     */
+    public int getBattle() {
+        return battle;
+    }
+    /**
+     * Returns the number of turns played in all battles so far, counting the one being played.
+     * Unlike the pipeline's turn count it is never reset, so it orders every decision of the game.
+     *
+     * @return The turns played.
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+    /**
+     * Hashes everything the game's outcome consists of: the battle, turn and coin counts, the HP, SP and effects
+     * of every party member, and the cards and items owned. Two plays of the same game end with the same hash.
+     *
+     * @return The 64-bit hash of the current state.
+     */
+    public long stateHash() {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, battle);
+        h = mix(h, turnsPlayed);
+        h = mix(h, coins);
+        for (Character ch : partyController.getParty()) {
+            h = mix(h, ch.getCharacterID());
+            h = mix(h, ch.getCurrentHP());
+            h = mix(h, ch.getMaxHP());
+            h = mix(h, ch.getCurrentSP());
+            h = mix(h, ch.getMaxSP());
+            h = mix(h, ch.getEffects().getMask());
+        }
+        for (Card card : cardController.getCards()) {
+            h = mix(h, card.getCardId());
+        }
+        for (Item item : itemController.getItems()) {
+            h = mix(h, item.getItemId());
+        }
+        return h;
+    }
+    private static long mix(long h, long value) {
+        return (h ^ value) * 0x100000001b3L;
     }
     /**
      * Conducts the first battle of the game.
@@ -63,13 +196,7 @@ public class Events {
         startBattle();
         partyController.addNewMember(partyPicker.generatePicks(partyController.getParty(), true));
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
-        do {
-            startTurn();
-            fightBattle();
-            fightEnemyBattle();
-            endTurn();
-        } while (!partyController.wonBattle());
-        breakTime();
+        fight();
     }
     /**
      * Conducts the second battle of the game.
@@ -82,13 +209,7 @@ public class Events {
         partyController.addNewMember(partyPicker.generatePicks(partyController.getParty(), true));
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
-        do {
-            startTurn();
-            fightBattle();
-            fightEnemyBattle();
-            endTurn();
-        } while (!partyController.wonBattle());
-        breakTime();
+        fight();
     }
     /**
      * Conducts the third battle of the game.
@@ -102,13 +223,7 @@ public class Events {
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
         partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
-        do {
-            startTurn();
-            fightBattle();
-            fightEnemyBattle();
-            endTurn();
-        } while (!partyController.wonBattle());
-        breakTime();
+        fight();
     }
     /**
      * Conducts a general battle.
@@ -123,250 +238,256 @@ public class Events {
         if (partyController.getParty().size() < 4) {
             partyController.addNewMember(partyPicker.generatePicks(partyController.getParty(), true));
         } else {
-            cardController.addCard(cardPicker.generatePicks());
-            switch (cardController.getCards().getLast().getCardId()) {
-                case 0:
-                    for (Character ch : partyController.getParty()) {
-                        ch.changeMaxHP(1);
-                    }
-                    break;
-                case 1:
-                    for (Character ch : partyController.getParty()) {
-                        ch.changeMaxHP(-1);
-                        ch.changeMaxSP(1);
-                    }
-                    break;
-                case 9:
-                    for (Character ch : partyController.getParty()) {
-                        ch.changeMaxHP(-1);
-                    }
-                    coins += 5;
-                    break;
-                case 5:
-                    coins += 2;
-                    break;
-            }
+            acquireCard(cardPicker.generatePicks());
         }
         for (int i = 0; i < 4; i++) {
             partyController.addNewEnemy(partyPicker.generatePicks(partyController.getEnemyParty(), false));
         }
         partyController.getParty().get(0).changeHP(-5);
-        do {
-            startTurn();
-            fightBattle();
-            fightEnemyBattle();
-            endTurn();
-        } while (!partyController.wonBattle());
-        breakTime();
-
+        fight();
     }
     /**
      * Resets battle-specific variables at the start of a new battle.
-     * Sets Last Man Standing status to false, resets turn count, clears enemy party,
-     * and resets `fifteenthTurn` and `tenthTurn` counters.
+     * Sets Last Man Standing status to false, restarts the turn count and clears enemy party.
      */
     private void startBattle() {
         lms = false;
-        turn = 0;
+        pipeline.reset();
         partyController.resetEnemies();
-        fifteenthTurn = 15;
-        tenthTurn = 10;
+        renderer.reset();
+    }
+    /**
+     * Plays turns until the player's party wins or dies, followed by a break time if it won.
+     */
+    private void fight() {
+        eventBus.publishBattleStart(battle);
+        do {
+            turnsPlayed++;
+            pipeline.runTurn();
+        } while (!gameOver && !partyController.wonBattle());
+        if (!gameOver) {
+            breakTime();
+        }
     }
     /**
      * Executes actions at the beginning of each turn.
-     * Prints out the current fight status, then iterates through both player and enemy parties
-     * to manage and remove temporary effects, specifically handling 'Pure' effect for debuff removal.
+     * Renders the current fight status. Expired effects are already gone at this point,
+     * since the effect scheduler removes them when the previous turn ends, and 'Pure' has already
+     * cleansed its character, as it does whenever it is applied and at the end of every turn.
      */
     private void startTurn() {
-        partyController.printOutTheFight();
-        for (Character ch : partyController.getParty()) {
-            for (Effect ef : ch.getEffects()) {
-                if (ef.getId() == 4) {
-                    ch.removeDebuffs();
-                    break;
-                }
-            }
-            ch.getEffects().removeIf(ef -> ef.getDuration() <= 0);
-        }
-        for (Character ch : partyController.getEnemyParty()) {
-            for (Effect ef : ch.getEffects()) {
-                if (ef.getId() == 4) {
-                    ch.removeDebuffs();
-                    break;
-                }
-            }
-            ch.getEffects().removeIf(ef -> ef.getDuration() <= 0);
-        }
+        renderer.renderFight(partyController.getParty(), partyController.getEnemyParty());
     }
     /**
      * Executes actions at the end of each turn.
-     * Decreases the duration of all active effects for both player and enemy characters,
-     * applying damage for 'Fire' and 'Poison' effects.
-     * Checks for and applies 'Snowballing' card effect.
-     * Checks if any player character is alive and exits the game if not.
-     * Increments the turn counter and triggers special events based on turn count (tenth, fifteenth, and third turns).
-     * Also checks for Last Man Standing status and applies card effects accordingly.
-     * Finally, prompts the user to use an item.
+     * Runs the per-turn behavior of every active effect, e.g. the damage of 'Fire' and 'Poison', then advances the effect scheduler,
+     * which removes only the effects that run out this turn.
+     * Checks if any player character is alive and ends the game if not, skipping the rest of the turn.
      */
     private void endTurn() {
         for (Character ch : partyController.getParty()) {
-            for (Effect ef : ch.getEffects()) {
-                ef.decreaseDuration();
-                if (Objects.equals(ef.getName(), "Fire")) {
-                    ch.changeHP(-1);
-                } else if (Objects.equals(ef.getName(), "Poison")) {
-                    if (ch.getCurrentHP() >= 2) {
-                        ch.changeHP(-1);
-                    }
-                }
-            }
+            ch.getEffects().tick();
         }
         for (Character ch : partyController.getEnemyParty()) {
-            for (Effect ef : ch.getEffects()) {
-                ef.decreaseDuration();
-                if (Objects.equals(ef.getName(), "Fire")) {
-                    ch.changeHP(-1);
-                } else if (Objects.equals(ef.getName(), "Poison")) {
-                    if (ch.getCurrentHP() >= 2) {
-                        ch.changeHP(-1);
-                    }
-                }
-            }
-        }
-        if (partyController.activateSnowballing()) {
-            for (Card c : cardController.getCards()) {
-                if (Objects.equals(c.getName(), "Snowballing")) {
-                    partyController.getParty().get(rand.nextInt(partyController.getParty().size())).addEffect("Strong", 1);
-                }
-            }
+            ch.getEffects().tick();
         }
+        partyController.getEffectScheduler().advance();
+        partyController.removeCorpses();
         if (!partyController.isAnyoneAlive()) {
-            System.err.println("GG you survived " + battle + " battles!");
-            System.exit(707);
+            gameOver = true;
+            pipeline.skipRestOfTurn();
         }
-        turn++;
-        if (turn == tenthTurn) {
-            for (Character ch1 : partyController.getParty()) {
-                for (Character ch2 : partyController.getParty()) {
-                    if ((Objects.equals(ch1.getName(), "Tasque") || Objects.equals(ch2.getName(), "Tasque"))
-                            && (Objects.equals(ch1.getName(), "007n7") || Objects.equals(ch2.getName(), "007n7"))) {
-                        for (Character enemy : partyController.getEnemyParty()) {
-                            switch (rand.nextInt(4)) {
-                                case 0:
-                                    enemy.getEffects().add(effectRepository.obtainEffect("Fire").copy().increaseDuration(1));
-                                    break;
-                                case 1:
-                                    enemy.getEffects().add(effectRepository.obtainEffect("Poison").copy().increaseDuration(1));
-                                    break;
-                                case 2:
-                                    enemy.getEffects().add(effectRepository.obtainEffect("Stun").copy().increaseDuration(1));
-                                    break;
-                                case 3:
-                                    enemy.getEffects().add(effectRepository.obtainEffect("Bleed").copy().increaseDuration(1));
-                                    break;
-                            }
+    }
+    /**
+     * Triggers every synergy of the current party, every tenth turn.
+     */
+    private void triggerSynergies() {
+        for (Synergy synergy : activeSynergies()) {
+            synergy.trigger(partyController.getParty(), partyController.getEnemyParty(), rand);
+        }
+    }
+    /**
+     * Takes a card. Cards with a one-off effect apply it right away; the others subscribe their rule
+     * to the event bus with their first copy, and read the number of copies whenever the rule fires.
+     *
+     * @param cardId The ID of the card taken.
+     */
+    private void acquireCard(int cardId) {
+        cardController.addCard(cardId);
+        switch (cardId) {
+            case Card.HEALTHY:
+                for (Character ch : partyController.getParty()) {
+                    ch.changeMaxHP(1);
+                }
+                break;
+            case Card.ENERGETIC:
+                for (Character ch : partyController.getParty()) {
+                    ch.changeMaxHP(-1);
+                    ch.changeMaxSP(1);
+                }
+                break;
+            case Card.BANK:
+                for (Character ch : partyController.getParty()) {
+                    ch.changeMaxHP(-1);
+                }
+                coins += 5;
+                break;
+            case Card.MONEY:
+                coins += 2;
+                break;
+            default:
+                if (cardController.numberOfCards(cardId) == 1) {
+                    subscribeCard(cardId);
+                }
+        }
+    }
+    /**
+     * Subscribes the rule of a card with a lasting effect to the events it reacts to.
+     *
+     * @param cardId The ID of the card.
+     */
+    private void subscribeCard(int cardId) {
+        switch (cardId) {
+            case Card.REGENERATION:
+                eventBus.subscribe(GameEventTypeEnum.TURN_END, event -> {
+                    if (event.getNumber() % 15 == 0) {
+                        for (Character ch : partyController.getParty()) {
+                            ch.changeHP(cardController.numberOfRegenerationCards());
                         }
                     }
-                    if ((Objects.equals(ch1.getName(), "Isaac") || Objects.equals(ch2.getName(), "Isaac"))
-                            && (Objects.equals(ch1.getName(), "Doombringer") || Objects.equals(ch2.getName(), "Doombringer"))) {
-                        for (Character ch : partyController.getParty()){
-                            ch.getEffects().add(effectRepository.obtainEffect("Tough").copy().increaseDuration(1));
+                });
+                break;
+            case Card.RESTORATION:
+                eventBus.subscribe(GameEventTypeEnum.TURN_END, event -> {
+                    if (event.getNumber() % 15 == 0) {
+                        for (Character ch : partyController.getParty()) {
+                            ch.changeSP(cardController.numberOfRestorationCards());
                         }
                     }
-                    if ((Objects.equals(ch1.getName(), "Flutter") || Objects.equals(ch2.getName(), "Flutter"))
-                            && (Objects.equals(ch1.getName(), "Leafy") || Objects.equals(ch2.getName(), "Leafy"))){
-                        for (Character ch : partyController.getParty()){
-                            ch.changeHP(1);
+                });
+                break;
+            case Card.GIFT:
+                eventBus.subscribe(GameEventTypeEnum.TURN_END, event -> {
+                    if (event.getNumber() == 3) {
+                        for (Character ch : partyController.getParty()) {
+                            ch.changeHP(cardController.numberOfGiftCards());
                         }
                     }
-                    if ((Objects.equals(ch1.getName(), "Chance") || Objects.equals(ch2.getName(), "Chance"))
-                            && (Objects.equals(ch1.getName(), "Default") || Objects.equals(ch2.getName(), "Default"))){
-                        if(rand.nextInt(4)==0){
-                            for (Character ch: partyController.getParty()){
-                                ch.changeSP(1);
-                                ch.getEffects().add(effectRepository.obtainEffect("Strong").copy().increaseDuration(1));
+                });
+                break;
+            case Card.ANCHOR:
+                eventBus.subscribe(GameEventTypeEnum.DEATH, event -> {
+                    if (event.isAlly()) {
+                        for (Character ch : partyController.getParty()) {
+                            if (ch.isAlive()) {
+                                ch.changeHP(cardController.numberOfAnchorCards());
                             }
                         }
                     }
-                }
-                tenthTurn += 10;
-            }
-            if (turn == fifteenthTurn) {
-                for (Character ch : partyController.getParty()) {
-                    ch.changeHP(cardController.numberOfRegenerationCards());
-                    ch.changeSP(cardController.numberOfRestorationCards());
-                }
-                fifteenthTurn += 15;
-                } else if (turn == 3) {
-                    for (Character ch : partyController.getParty()) {
-                        ch.changeHP(cardController.numberOfGiftCards());
+                });
+                break;
+            case Card.SNOWBALLING:
+                eventBus.subscribe(GameEventTypeEnum.DEATH, event -> {
+                    if (!event.isAlly()) {
+                        for (int i = cardController.numberOfSnowballingCards(); i > 0; i--) {
+                            Character ch = randomLivingMember();
+                            if (ch != null) {
+                                ch.addEffect(Effect.STRONG, 2);
+                            }
+                        }
                     }
-                }
-                if (partyController.getParty().size() == 1 && !lms) {
-                    lms = true;
-                    partyController.getParty().get(0).changeHP(cardController.numberOfLastCards());
+                });
+                break;
+            case Card.LAST:
+                eventBus.subscribe(GameEventTypeEnum.BATTLE_START, event -> lastManStanding());
+                eventBus.subscribe(GameEventTypeEnum.DEATH, event -> {
+                    if (event.isAlly()) {
+                        lastManStanding();
+                    }
+                });
+                break;
+        }
+    }
+    /**
+     * Applies the 'Last' cards once a battle, as soon as only one member of the party is left alive.
+     */
+    private void lastManStanding() {
+        if (partyController.getLiveMemberCount() == 1 && !lms) {
+            lms = true;
+            for (Character ch : partyController.getParty()) {
+                if (ch.isAlive()) {
+                    ch.changeHP(cardController.numberOfLastCards());
                 }
             }
-        useItem();
+        }
+    }
+    /**
+     * Picks a random living member of the player's party. Members that died this turn may still be in the party.
+     *
+     * @return The chosen `Character`, or `null` if nobody is alive.
+     */
+    private Character randomLivingMember() {
+        int alive = partyController.getLiveMemberCount();
+        if (alive == 0) {
+            return null;
+        }
+        int skip = rand.nextInt(alive);
+        for (Character ch : partyController.getParty()) {
+            if (ch.isAlive() && skip-- == 0) {
+                return ch;
+            }
+        }
+        return null;
+    }
+    /**
+     * Returns the synergies of the current party. They are only looked up again
+     * when the composition of the party has changed since the last call, i.e. after a draft or a death.
+     *
+     * @return The active synergies, each exactly once.
+     */
+    private Synergy[] activeSynergies() {
+        long partyMask = partyController.getPartyMask();
+        if (partyMask != synergyMask) {
+            synergies = synergyRepository.getActive(partyMask);
+            synergyMask = partyMask;
+        }
+        return synergies;
     }
     /**
      * Provides a "break time" between battles.
      * Heals all player characters to full health and clears all their effects.
-     * Prints the full information of each player character, the current cards, and coin count.
+     * Renders the full information of each player character, the current cards, and coin count.
      * Increments the battle counter and awards one coin.
      */
     private void breakTime () {
         for (Character ch : partyController.getParty()) {
             ch.maxOut();
-            ch.getEffects().clear();
-            System.out.println(ch.fullinfo());
+            ch.clearEffects();
         }
-        System.out.println(cardController.getCards() + "\nCoins: [" + coins + ']');
+        renderer.renderBreak(partyController.getParty(), cardController.getCards(), coins);
         battle++;
         coins++;
     }
     /**
      * Manages the player's turn in a battle.
      * Iterates through each character in the player's party. If a character is not stunned,
-     * it prompts the player to choose an attack type (basic attack or ability 1/2).
+     * the controller chooses an attack type (basic attack or ability 1/2) and its targets.
      * Applies damage or ability effects based on the chosen attack and character effects.
      */
     private void fightBattle () {
         for (Character ch : partyController.getParty()) {
-            boolean notStunned = true;
-            for (Effect e : ch.getEffects()) {
-                if (Objects.equals(e.getName(), "Stun")) {
-                    notStunned = false;
-                    break;
-                }
-            }
-            if (notStunned) {
-                int attackType = fight.play(ch);
+            if (!ch.hasEffect(Effect.STUN)) {
+                int attackType = controller.chooseAction(ch);
                 switch (attackType) {
                     case 0:
-                        Character target = fight.getTarget(partyController.getEnemyParty());
-                        int targetHPChange = -1;
-                        for (Effect e : ch.getEffects()) {
-                            if (Objects.equals(e.getName(), "Strong")) {
-                                targetHPChange -= 1;
-                                break;
-                            }
-                        }
-                        for (Effect e : target.getEffects()) {
-                            if (Objects.equals(e.getName(), "Nullify")) {
-                                targetHPChange = 0;
-                                break;
-                            } else if (Objects.equals(e.getName(), "Tough")) {
-                                targetHPChange += 1;
-                            }
-                        }
-                        target.changeHP(targetHPChange);
+                        Character target = controller.chooseTarget(partyController.getEnemyParty());
+                        DamageCalculator.dealDamage(ch, target, 1);
                         break;
                     case 1:
-                        ability1.useAbility(ch, partyController.getParty(), partyController.getEnemyParty());
+                        ch.getAbility1().use(ch, partyController.getParty(), partyController.getEnemyParty(), controller::chooseTarget, rand);
                         break;
                     case 2:
-                        ability2.useAbility(ch, partyController.getParty(), partyController.getEnemyParty());
+                        ch.getAbility2().use(ch, partyController.getParty(), partyController.getEnemyParty(), controller::chooseTarget, rand);
                         break;
                 }
             }
@@ -375,126 +496,93 @@ public class Events {
     /**
      * Manages the enemy's turn in a battle.
      * Iterates through each character in the enemy party. If an enemy is not stunned (effect ID 2),
-     * it randomly chooses an attack type (basic attack or enemy ability 1/2).
-     * Applies damage or ability effects to a random player character, considering active effects on both
-     * the attacking enemy and the targeted player character.
+     * the enemy controller chooses an attack type (basic attack or ability 1/2). Enemies use the same compiled abilities
+     * as the player's characters, with their own party as allies and targets chosen at random.
+     * Basic attacks go through the same `DamageCalculator` as the player's, so the attacker's "Strong"
+     * and the target's "Tough" and "Nullify" apply to them too.
      */
     private void fightEnemyBattle () {
         for (Character ch : partyController.getEnemyParty()) {
-            ArrayList<Integer> effectsOnYou = new ArrayList<>();
-            for (Effect ef : ch.getEffects()) {
-                effectsOnYou.add(ef.getId());
-            }
-            if (!effectsOnYou.contains(2)) {
-                int attackType = rand.nextInt(3);
+            if (!ch.hasEffect(Effect.STUN)) {
+                int attackType = enemyController.chooseAction(ch);
                 switch (attackType) {
                     case 0:
-                        Character target = fight.getRandomTarget(partyController.getParty());
-                        ArrayList<Integer> effectsOnTarget = new ArrayList<>();
-                        for (Effect e : target.getEffects()) {
-                            effectsOnTarget.add(e.getId());
-                        }
-                        if (!effectsOnTarget.contains(8) || !effectsOnTarget.contains(7)) {
-                            target.changeHP(-1);
-                        }
-                        if (effectsOnYou.contains(6)) {
-                            target.changeHP(-1);
-                        }
+                        Character target = enemyController.chooseTarget(partyController.getParty());
+                        DamageCalculator.dealDamage(ch, target, 1);
                         break;
                     case 1:
-                        enemyAbility1.useAbility(ch, partyController.getParty(), partyController.getEnemyParty());
+                        ch.getAbility1().use(ch, partyController.getEnemyParty(), partyController.getParty(), enemyController::chooseTarget, rand);
                         break;
                     case 2:
-                        enemyAbility2.useAbility(ch, partyController.getParty(), partyController.getEnemyParty());
+                        ch.getAbility2().use(ch, partyController.getEnemyParty(), partyController.getParty(), enemyController::chooseTarget, rand);
                         break;
                 }
             }
         }
     }
     /**
-     * Prompts the player to use an item during a battle turn.
-     * If the player has items and chooses to use one, it displays the available items,
-     * asks for the item ID, and applies the corresponding effect to the party or enemies.
-     * Used items are removed from the inventory.
+     * Lets the player use an item during a battle turn.
+     * If the player has items and the controller picks one, the corresponding effect is applied
+     * to the party or enemies and that item is removed from the inventory.
      */
     private void useItem () {
         if (!itemController.getItems().isEmpty()) {
-            System.out.println("Wanna use an item?");
-            if (Objects.equals(sc.next(), "yes")) {
-                System.out.println(itemController.getItems().toString());
-                ArrayList<Integer> itemIds = new ArrayList<>();
-                for (Item it : itemController.getItems()) {
-                    itemIds.add(it.getItemId());
-                }
-                System.out.println("Type the id of the item you wanna use.");
-                int itemId = sc.nextInt();
-                if (itemIds.contains(itemId)) {
-                    switch (itemId) {
-                        case 0:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getParty()) {
-                                ch.changeHP(10);
-                            }
-                            break;
-                        case 1:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getParty()) {
-                                ch.changeSP(10);
-                            }
-                            break;
-                        case 2:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getEnemyParty()) {
-                                ch.getEffects().add(effectRepository.obtainEffect("Fire").copy().increaseDuration(3));
-                            }
-                            break;
-                        case 3:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getEnemyParty()) {
-                                ch.getEffects().add(effectRepository.obtainEffect("Poison").copy().increaseDuration(3));
-                            }
-                            break;
-                        case 4:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getEnemyParty()) {
-                                ch.changeHP(-3);
-                            }
-                            break;
-                        case 5:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getEnemyParty()) {
-                                ch.getEffects().add(effectRepository.obtainEffect("Stun").copy().increaseDuration(1));
-                            }
-                            break;
-                        case 6:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getEnemyParty()) {
-                                ch.changeHP(rand.nextInt(5) + 1);
-                            }
-                            break;
-                        case 7:
-                            itemController.getItems().remove(itemId);
-                            for (Character ch : partyController.getParty()) {
-                                ch.getEffects().add(effectRepository.obtainEffect("Pure").copy().increaseDuration(2));
-                            }
-                            break;
-                    }
-
+            Item item = controller.chooseItem(itemController.getItems());
+            if (item != null) {
+                itemController.getItems().remove(item);
+                switch (item.getItemId()) {
+                    case 0:
+                        for (Character ch : partyController.getParty()) {
+                            ch.changeHP(10);
+                        }
+                        break;
+                    case 1:
+                        for (Character ch : partyController.getParty()) {
+                            ch.changeSP(10);
+                        }
+                        break;
+                    case 2:
+                        for (Character ch : partyController.getEnemyParty()) {
+                            ch.addEffect(Effect.FIRE, 3);
+                        }
+                        break;
+                    case 3:
+                        for (Character ch : partyController.getEnemyParty()) {
+                            ch.addEffect(Effect.POISON, 3);
+                        }
+                        break;
+                    case 4:
+                        for (Character ch : partyController.getEnemyParty()) {
+                            ch.changeHP(-3);
+                        }
+                        break;
+                    case 5:
+                        for (Character ch : partyController.getEnemyParty()) {
+                            ch.addEffect(Effect.STUN, 1);
+                        }
+                        break;
+                    case 6:
+                        for (Character ch : partyController.getEnemyParty()) {
+                            ch.changeHP(rand.nextInt(5) + 1);
+                        }
+                        break;
+                    case 7:
+                        for (Character ch : partyController.getParty()) {
+                            ch.addEffect(Effect.PURE, 2);
+                        }
+                        break;
                 }
             }
         }
     }
     /**
      * Allows the player to purchase items from the shop if they have enough coins.
-     * Displays available items and their IDs (each costing 5 coins).
-     * If a valid item ID is entered and the player has sufficient coins, the item is added to inventory
-     * and coins are deducted.
+     * The controller is offered every item (each costing 5 coins).
+     * If it picks a valid item ID, the item is added to inventory and coins are deducted.
      */
     private void shop(){
         if(coins>=5) {
-            System.out.println(itemRepository.getItems().toString());
-            System.out.println("Type the id of the item you want, each costs 5 coins.");
-            int chosen = sc.nextInt();
+            int chosen = controller.chooseShopItem(itemRepository.getItems().values(), coins);
             if(chosen>=0&&chosen<=7){
                 itemController.addNewItem(chosen);
                 coins -= 5;
@@ -1,81 +1,124 @@
 package cz.spsejecna.universeclash;
 import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.controllers.InputSource;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Objects;
-import java.util.Random;
-import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 public class Fight {
-    private final Scanner sc = new Scanner(System.in);
-    private final Random rand = new Random();
+    private final InputSource sc;
+    private final PrintStream out;
+
+    /**
+     * Constructs a `Fight` prompting through the given input source on the console.
+     *
+     * @param sc The `InputSource` the player's input is read from.
+     */
+    public Fight(InputSource sc) {
+        this(sc, System.out);
+    }
+
+    /**
+     * Constructs a `Fight` prompting through the given input source and stream, e.g. those of a player's connection.
+     *
+     * @param sc The `InputSource` the player's input is read from.
+     * @param out The `PrintStream` the prompts are shown on.
+     */
+    public Fight(InputSource sc, PrintStream out) {
+        this.sc = sc;
+        this.out = out;
+    }
 
     /**
      * Prompts the player to choose an attack type (basic attack or ability) and returns the chosen option.
      * Displays the character's name and available abilities.
-     * If an invalid input is provided, it defaults to a basic attack (0).
-     * Handles non-integer input by printing an error and exiting the program.
+     * If an invalid number is provided, it defaults to a basic attack (0).
+     * Non-integer input is skipped and the player is asked again.
      *
      * @param playingAs The character the player is currently controlling.
      * @return An integer representing the chosen attack type: 0 for basic attack, 1 for ability 1, 2 for ability 2.
+     * @throws java.util.NoSuchElementException If the input ends before a number is entered.
      */
     public int play(Character playingAs){
-        System.out.println("Playing as: "+playingAs.getName()+
+        out.println("Playing as: "+playingAs.getName()+
                 "\n type 0 for a simple 1 dmg attack, type 1 or 2 to use corresponding abilities.\n"
                 +playingAs.getAbility1()+playingAs.getAbility2());
-        try {
-            return switch (sc.nextInt()) {
-                case 0 -> 0;
-                case 1 -> 1;
-                case 2 -> 2;
-                default -> {
-                    System.out.println("Not an ability. Using basic attack");
-                    yield 0;
-                }
-            };
-        }catch (Exception e){
-            System.err.println("Only allows Integers");
-            System.exit(58008);
+        while (!sc.hasNextInt()) {
+            out.println("Only allows Integers");
+            sc.next(); // Skip the invalid token, or throw if the input has ended
         }
-        return 0;
+        return switch (sc.nextInt()) {
+            case 0 -> 0;
+            case 1 -> 1;
+            case 2 -> 2;
+            default -> {
+                out.println("Not an ability. Using basic attack");
+                yield 0;
+            }
+        };
     }
 
     /**
-     * Prompts the user to enter the name of a target and returns the corresponding Character object from the provided team.
-     * The method will loop indefinitely until a valid character name matching one in the team is entered.
+     * Prompts the player for a target out of the provided team and returns it.
+     * The targets are listed with their slot numbers; the player may type either the slot number
+     * or the name of the target. Invalid input is rejected and the prompt is repeated, waiting
+     * for the next input instead of spinning on the one already read.
      *
      * @param team An ArrayList of Character objects representing the potential targets.
-     * @return The Character object whose name matches the user's input.
+     * @return The chosen Character object.
+     * @throws java.util.NoSuchElementException If the input ends before a valid target is entered.
      */
     public Character getTarget(ArrayList<Character> team){
-        System.out.println("Type the name of your target.");
-        String name = sc.next();
-        do {
-            for (Character ch : team) {
-                if (Objects.equals(ch.getName(), name)) {
-                    return ch;
-                }
+        StringBuilder prompt = new StringBuilder("Type the number or the name of your target.");
+        for (int slot = 0; slot < team.size(); slot++) {
+            prompt.append("\n ").append(slot + 1).append(") ").append(team.get(slot).getName());
+        }
+        out.println(prompt);
+        while (true) {
+            Character target = resolveTarget(team, sc.next());
+            if (target != null) {
+                return target;
             }
-        }while (true);
+            out.println("No such target. Try again.");
+        }
     }
 
     /**
-     * Selects a random target from the provided team and returns the corresponding Character object.
-     * The method ensures that a valid character from the team is returned.
+     * Resolves what the player typed to a target. A number is taken as the target's slot,
+     * counted from 1 as listed by `getTarget`, and resolved in constant time; anything else is
+     * matched against the names of the team, ignoring case.
      *
      * @param team An ArrayList of Character objects representing the potential targets.
-     * @return A randomly selected Character object from the team.
+     * @param input The slot number or name typed by the player.
+     * @return The matching Character, or `null` if nobody matches.
      */
-    public Character getRandomTarget(ArrayList<Character> team){
-        String name = team.get(rand.nextInt(team.size())).getName();
-        do {
+    public static Character resolveTarget(ArrayList<Character> team, String input){
+        Character target = null;
+        try {
+            int slot = Integer.parseInt(input) - 1;
+            if (slot >= 0 && slot < team.size()) {
+                target = team.get(slot);
+            }
+        } catch (NumberFormatException e) {
             for (Character ch : team) {
-                if (Objects.equals(ch.getName(), name)) {
-                    return ch;
+                if (ch.getName().equalsIgnoreCase(input)) {
+                    target = ch;
+                    break;
                 }
             }
-        }while (true);
+        }
+        return target;
     }
 
-
+    /**
+     * Selects a random target from the provided team by its slot.
+     *
+     * @param team An ArrayList of Character objects representing the potential targets.
+     * @param rand The session's random generator.
+     * @return A randomly selected Character object from the team.
+     */
+    public static Character getRandomTarget(ArrayList<Character> team, RandomGenerator rand){
+        return team.get(rand.nextInt(team.size()));
+    }
 }
@@ -0,0 +1,92 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.cards.CardRepository;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.EffectRepository;
+import cz.spsejecna.universeclash.items.ItemRepository;
+import cz.spsejecna.universeclash.synergies.SynergyRepository;
+
+public final class GameData {
+
+    private final EffectRepository effectRepository;
+    private final CharacterRepository characterRepository;
+    private final CardRepository cardRepository;
+    private final ItemRepository itemRepository;
+    private final SynergyRepository synergyRepository;
+
+    /**
+     * Parses every JSON catalog exactly once. Effects are loaded first,
+     * since the other catalogs may refer to them by name.
+     */
+    private GameData() {
+        this.effectRepository = new EffectRepository();
+        this.characterRepository = new CharacterRepository(effectRepository);
+        this.cardRepository = new CardRepository();
+        this.itemRepository = new ItemRepository();
+        this.synergyRepository = new SynergyRepository(effectRepository, characterRepository);
+    }
+
+    /**
+     * Lazy holder for the shared snapshot. The JVM guarantees the class is initialized
+     * exactly once and that the finished instance is visible to every thread.
+     */
+    private static class Holder {
+        private static final GameData INSTANCE = new GameData();
+    }
+
+    /**
+     * Returns the process-wide game data snapshot, loading all catalogs on first use.
+     * The repositories never change after loading and only hand out copies of their templates,
+     * so the snapshot can be shared freely between components and threads.
+     *
+     * @return The shared `GameData` instance.
+     */
+    public static GameData get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the shared effect catalog.
+     *
+     * @return The loaded `EffectRepository`.
+     */
+    public EffectRepository getEffectRepository() {
+        return effectRepository;
+    }
+
+    /**
+     * Returns the shared character catalog.
+     *
+     * @return The loaded `CharacterRepository`.
+     */
+    public CharacterRepository getCharacterRepository() {
+        return characterRepository;
+    }
+
+    /**
+     * Returns the shared card catalog.
+     *
+     * @return The loaded `CardRepository`.
+     */
+    public CardRepository getCardRepository() {
+        return cardRepository;
+    }
+
+    /**
+     * Returns the shared item catalog.
+     *
+     * @return The loaded `ItemRepository`.
+     */
+    public ItemRepository getItemRepository() {
+        return itemRepository;
+    }
+
+    /**
+     * Returns the shared synergy catalog.
+     *
+     * @return The loaded `SynergyRepository`.
+     */
+    public SynergyRepository getSynergyRepository() {
+        return synergyRepository;
+    }
+}
@@ -0,0 +1,35 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.exceptions.GameException;
+
+public class GameSession {
+    private final Events events;
+
+    /**
+     * Constructs a session hosting a single game.
+     *
+     * @param events The game to host.
+     */
+    public GameSession(Events events) {
+        this.events = events;
+    }
+
+    /**
+     * Plays the game and reports how it ended. Anything going wrong inside the game ends only this game:
+     * a `GameException` is returned as a failed result, and so is any other runtime exception, wrapped
+     * in a `GameException`, so that a host running many games in one process never loses the others.
+     * Errors of the JVM itself are not caught.
+     *
+     * @param battleLimit The number of survived battles after which the game is stopped.
+     * @return The `SessionResult` of the game.
+     */
+    public SessionResult play(int battleLimit) {
+        try {
+            return SessionResult.finished(events.gamestart(battleLimit));
+        } catch (GameException e) {
+            return SessionResult.failed(events.getBattle(), e);
+        } catch (RuntimeException e) {
+            return SessionResult.failed(events.getBattle(), new GameException("Unexpected failure in the game", e));
+        }
+    }
+}
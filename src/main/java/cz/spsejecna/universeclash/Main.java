@@ -4,11 +4,15 @@ package cz.spsejecna.universeclash;
 
 public class Main {
     public static void main(String[] args) {
-        Events event = new Events();
-        event.gamestart(); //Starts the game
-
+        SessionResult result = new GameSession(new Events()).play(Integer.MAX_VALUE); //Starts the game, returns once the whole party is dead
+        if (result.isFailed()) {
+            System.err.println("The game ended with an error: " + result.getFailure().getMessage());
+            System.exit(1);
+        }
+        System.err.println("GG you survived " + result.getBattles() + " battles!");
+        System.exit(707);
 
 
 
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,11 @@ package cz.spsejecna.universeclash;
 public class PathFinder {
 
     //PathFinders solely exist to just find paths to the .json files
-    public final static String cardsFilePath = "C:\\Users\\svarc2\\IdeaProjects\\universeclash\\src\\main\\java\\cz\\spsejecna\\universeclash\\data\\cards.json";
-    public final static String effectsFilePath = "C:\\Users\\svarc2\\IdeaProjects\\universeclash\\src\\main\\java\\cz\\spsejecna\\universeclash\\data\\effects.json";
-    public final static String itemsFilePath = "C:\\Users\\svarc2\\IdeaProjects\\universeclash\\src\\main\\java\\cz\\spsejecna\\universeclash\\data\\items.json";
-    public final static String charactersFilePath = "C:\\Users\\svarc2\\IdeaProjects\\universeclash\\src\\main\\java\\cz\\spsejecna\\universeclash\\data\\characters.json";
+    //Paths are relative to the project root, which is the working directory both in the IDE and under Maven
+    private final static String dataDirectory = "src/main/java/cz/spsejecna/universeclash/data/";
+    public final static String cardsFilePath = dataDirectory + "cards.json";
+    public final static String effectsFilePath = dataDirectory + "effects.json";
+    public final static String itemsFilePath = dataDirectory + "items.json";
+    public final static String charactersFilePath = dataDirectory + "characters.json";
+    public final static String synergiesFilePath = dataDirectory + "synergies.json";
 }
@@ -0,0 +1,24 @@
+package cz.spsejecna.universeclash;
+
+public enum RarityEnum {
+
+    COMMON(10),
+    UNCOMMON(6),
+    RARE(3),
+    LEGENDARY(1);
+
+    private final double weight;
+
+    RarityEnum(double weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Returns the draft weight used for entries of this rarity that don't declare their own `weight`.
+     *
+     * @return The default draft weight.
+     */
+    public double getWeight() {
+        return weight;
+    }
+}
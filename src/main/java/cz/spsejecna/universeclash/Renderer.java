@@ -0,0 +1,113 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+public class Renderer {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final PrintStream out;
+    private final StringBuilder frame = new StringBuilder(1024); // reused by every frame
+    private final IdentityHashMap<Character, String> lines = new IdentityHashMap<>(); // last rendered line of each character
+
+    /**
+     * Constructs a renderer showing the game on the given stream.
+     *
+     * @param out The `PrintStream` the frames are written to.
+     */
+    public Renderer(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Returns a renderer that shows nothing and doesn't even build its frames, for games nobody watches.
+     *
+     * @return A quiet `Renderer`.
+     */
+    public static Renderer quiet() {
+        return new Renderer(null);
+    }
+
+    /**
+     * Checks whether this renderer skips rendering altogether.
+     *
+     * @return `true` if nothing is rendered, `false` otherwise.
+     */
+    public boolean isQuiet() {
+        return out == null;
+    }
+
+    /**
+     * Shows both teams at the start of a turn. The frame is built in a reused buffer and written at once.
+     * The line of a character is only formatted again if the character is dirty, i.e. its HP, SP or effects
+     * changed since it was last rendered, or if it has effects, whose remaining turns count down every turn;
+     * every other line is copied from the previous frame.
+     *
+     * @param party The player's party.
+     * @param enemies The enemy party.
+     */
+    public void renderFight(ArrayList<Character> party, ArrayList<Character> enemies) {
+        if (out == null) {
+            return;
+        }
+        frame.setLength(0);
+        frame.append("Your team:\n");
+        appendTeam(party);
+        frame.append(NEWLINE).append("\n\nEnemy team:\n");
+        appendTeam(enemies);
+        frame.append(NEWLINE);
+        out.append(frame);
+    }
+
+    private void appendTeam(ArrayList<Character> team) {
+        frame.append('[');
+        for (int i = 0; i < team.size(); i++) {
+            if (i > 0) {
+                frame.append(", ");
+            }
+            frame.append(line(team.get(i)));
+        }
+        frame.append(']');
+    }
+
+    private String line(Character ch) {
+        String line = lines.get(ch);
+        if (line == null || ch.isDirty() || ch.getEffects().size() > 0) {
+            line = ch.toString();
+            lines.put(ch, line);
+            ch.markClean();
+        }
+        return line;
+    }
+
+    /**
+     * Shows the break between battles: the details of every party member, the cards and the coins, written at once.
+     *
+     * @param party The player's party.
+     * @param cards The player's cards.
+     * @param coins The player's coins.
+     */
+    public void renderBreak(ArrayList<Character> party, ArrayList<Card> cards, int coins) {
+        if (out == null) {
+            return;
+        }
+        frame.setLength(0);
+        for (Character ch : party) {
+            frame.append(ch.fullinfo()).append(NEWLINE);
+        }
+        frame.append(cards).append("\nCoins: [").append(coins).append(']').append(NEWLINE);
+        out.append(frame);
+    }
+
+    /**
+     * Forgets the lines of every character rendered so far, e.g. the enemies of a battle that is over.
+     */
+    public void reset() {
+        lines.clear();
+    }
+}
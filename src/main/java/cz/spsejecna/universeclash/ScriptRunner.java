@@ -0,0 +1,71 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.controllers.ConsoleController;
+import cz.spsejecna.universeclash.controllers.InputSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+public class ScriptRunner {
+
+    private static final PrintStream NOWHERE = new PrintStream(OutputStream.nullOutputStream());
+
+    /**
+     * Plays a script of decisions through many seeded games, without any console involvement,
+     * and prints how the games ended. The script holds the answers as a player would type them.
+     * Usage: `ScriptRunner script [runs] [battleLimit] [seed]`.
+     *
+     * @param args The path of the script file, then the number of games, the battle limit and the seed, all but the path optional.
+     * @throws IOException If the script can't be read.
+     */
+    public static void main(String[] args) throws IOException {
+        String script = Files.readString(Path.of(args[0]));
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int battleLimit = args.length > 2 ? Integer.parseInt(args[2]) : Simulator.DEFAULT_BATTLE_LIMIT;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        GameData.get(); // Load the catalogs before the clock starts
+        LongAdder finished = new LongAdder();
+        LongAdder exhausted = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long start = System.nanoTime();
+        IntStream.range(0, runs).parallel().forEach(run -> {
+            SessionResult result = play(script, Simulator.runSeed(seed, run), battleLimit);
+            Throwable cause = result.isFailed() ? result.getFailure().getCause() : null;
+            if (!result.isFailed()) {
+                finished.increment();
+            } else if (cause instanceof NoSuchElementException && !(cause instanceof InputMismatchException)) {
+                // A bad token is a mistake in the script, not its end, even though it is a `NoSuchElementException` too
+                exhausted.increment();
+            } else {
+                failed.increment();
+                System.err.println("Game with seed " + Simulator.runSeed(seed, run) + " failed: " + result.getFailure().getMessage());
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d scripted games in %.2f s (%.0f games/s), seed %d%n", runs, seconds, runs / seconds, seed);
+        System.out.printf("finished %d  ran out of script %d  failed %d%n", finished.sum(), exhausted.sum(), failed.sum());
+    }
+
+    /**
+     * Plays a single game answering every prompt from the script, with nothing shown anywhere.
+     * A game that asks for more answers than the script has ends as failed, caused by a `NoSuchElementException`.
+     *
+     * @param script The answers, as the player would type them.
+     * @param seed The seed of the game.
+     * @param battleLimit The number of survived battles after which the game is stopped.
+     * @return The `SessionResult` of the game.
+     */
+    public static SessionResult play(String script, long seed, int battleLimit) {
+        Events events = new Events(new ConsoleController(InputSource.of(script), NOWHERE), Renderer.quiet(), new SplittableRandom(seed));
+        return new GameSession(events).play(battleLimit);
+    }
+}
@@ -0,0 +1,61 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.exceptions.GameException;
+
+public final class SessionResult {
+    private final int battles;
+    private final GameException failure;
+
+    private SessionResult(int battles, GameException failure) {
+        this.battles = battles;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates the result of a game that was played to its end.
+     *
+     * @param battles The number of battles survived.
+     * @return The new `SessionResult`.
+     */
+    public static SessionResult finished(int battles) {
+        return new SessionResult(battles, null);
+    }
+
+    /**
+     * Creates the result of a game that was ended by an error.
+     *
+     * @param battles The number of battles survived before the error.
+     * @param failure The `GameException` that ended the game.
+     * @return The new `SessionResult`.
+     */
+    public static SessionResult failed(int battles, GameException failure) {
+        return new SessionResult(battles, failure);
+    }
+
+    /**
+     * Returns the number of battles survived.
+     *
+     * @return The battle count the game ended with.
+     */
+    public int getBattles() {
+        return battles;
+    }
+
+    /**
+     * Checks whether the game was ended by an error rather than by the party dying or the battle limit.
+     *
+     * @return `true` if the game failed, `false` otherwise.
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the error that ended the game.
+     *
+     * @return The `GameException`, or `null` if the game didn't fail.
+     */
+    public GameException getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,209 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.controllers.RandomController;
+import cz.spsejecna.universeclash.turns.PhaseTimer;
+import cz.spsejecna.universeclash.turns.PhaseTimings;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class Simulator {
+
+    // Runs are cut off after this many survived battles unless told otherwise
+    public static final int DEFAULT_BATTLE_LIMIT = 1000;
+    // `Events.gamestart` always plays the three opening battles before it checks the battle limit
+    public static final int OPENING_BATTLES = 3;
+
+    /**
+     * Plays whole runs with a `RandomController` on every core and prints the distribution
+     * of battles survived. With `phases` set to `true`, it also prints where the time of a turn went.
+     * Usage: `Simulator [runs] [battleLimit] [threads] [seed] [phases]`.
+     *
+     * @param args The number of runs, the battle limit, the number of worker threads, the seed
+     *             and whether to time the turn phases, all optional.
+     */
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int battleLimit = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BATTLE_LIMIT;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        PhaseTimings timings = args.length > 4 && Boolean.parseBoolean(args[4]) ? new PhaseTimings() : null;
+
+        GameData.get(); // Load the catalogs before the clock starts
+        long start = System.nanoTime();
+        long[] histogram = simulate(runs, battleLimit, threads, seed, timings);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d runs on %d threads in %.2f s (%.0f runs/s), seed %d%n", runs, threads, seconds, runs / seconds, seed);
+        System.out.print(report(histogram));
+        if (timings != null) {
+            System.out.print(timings);
+        }
+    }
+
+    /**
+     * Plays a number of complete, independent runs in parallel. Every run has its own `Events`
+     * with its own parties, cards, items and randomness, and only shares the read-only `GameData`,
+     * so runs never wait for each other. Each worker counts into its own histogram and the histograms
+     * are only merged at the end.
+     * The seed of every run is derived from the simulation's seed and the run's index alone, so the same
+     * seed gives the same histogram no matter how many threads there are or how the runs are scheduled.
+     *
+     * @param runs The number of runs to play.
+     * @param battleLimit The number of survived battles after which a run is stopped.
+     * @param threads The number of worker threads.
+     * @param seed The seed of the whole simulation.
+     * @return A histogram where index `n` holds the number of runs that survived exactly `n` battles.
+     * @throws IllegalArgumentException If the battle limit is too large for a histogram.
+     */
+    public static long[] simulate(int runs, int battleLimit, int threads, long seed) {
+        return simulate(runs, battleLimit, threads, seed, null);
+    }
+
+    /**
+     * Plays runs like `simulate(runs, battleLimit, threads, seed)`, reporting the time of every turn phase
+     * of every run to the given timer, which is called from all worker threads.
+     *
+     * @param runs The number of runs to play.
+     * @param battleLimit The number of survived battles after which a run is stopped.
+     * @param threads The number of worker threads.
+     * @param seed The seed of the whole simulation.
+     * @param timer The thread-safe `PhaseTimer` to report to, or `null` to not time anything.
+     * @return A histogram where index `n` holds the number of runs that survived exactly `n` battles.
+     * @throws IllegalArgumentException If the battle limit is too large for a histogram.
+     */
+    public static long[] simulate(int runs, int battleLimit, int threads, long seed, PhaseTimer timer) {
+        int size = histogramSize(battleLimit);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, runs).parallel()
+                    .collect(() -> new long[size],
+                            (histogram, run) -> histogram[playRun(runSeed(seed, run), battleLimit, timer)]++,
+                            (a, b) -> {
+                                for (int i = 0; i < a.length; i++) {
+                                    a[i] += b[i];
+                                }
+                            }))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single run without any console output. The run is fully determined by its seed.
+     *
+     * @param seed The seed of the run.
+     * @param battleLimit The number of survived battles after which the run is stopped.
+     * @return The number of battles survived.
+     */
+    public static int playRun(long seed, int battleLimit) {
+        return playRun(seed, battleLimit, null);
+    }
+
+    /**
+     * Plays a single run like `playRun(seed, battleLimit)`, reporting the time of every turn phase to the given timer.
+     * A run ended by an error doesn't stop the simulation; it is reported with its seed, so it can be replayed,
+     * and counted with the battles it survived until then.
+     *
+     * @param seed The seed of the run.
+     * @param battleLimit The number of survived battles after which the run is stopped.
+     * @param timer The `PhaseTimer` to report to, or `null` to not time anything.
+     * @return The number of battles survived.
+     */
+    public static int playRun(long seed, int battleLimit, PhaseTimer timer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Events events = new Events(new RandomController(random.split()), Renderer.quiet(), random);
+        events.setPhaseTimer(timer);
+        SessionResult result = new GameSession(events).play(battleLimit);
+        if (result.isFailed()) {
+            System.err.println("Run with seed " + seed + " failed: " + result.getFailure().getMessage());
+        }
+        return result.getBattles();
+    }
+
+    /**
+     * Returns the length of a histogram that can count every result of runs stopped at the given battle limit.
+     * A run never ends before the opening battles are over, so limits below `OPENING_BATTLES` can still
+     * survive `OPENING_BATTLES` battles.
+     *
+     * @param battleLimit The number of survived battles after which a run is stopped.
+     * @return The length of the histogram.
+     * @throws IllegalArgumentException If the battle limit is too large for a histogram.
+     */
+    public static int histogramSize(int battleLimit) {
+        if (battleLimit == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("battleLimit must be below " + Integer.MAX_VALUE);
+        }
+        return Math.max(battleLimit, OPENING_BATTLES) + 1;
+    }
+
+    /**
+     * Derives the seed of a single run, mixing the index so that neighbouring runs get unrelated seeds.
+     *
+     * @param seed The seed of the whole simulation.
+     * @param run The index of the run.
+     * @return The seed of the run.
+     */
+    public static long runSeed(long seed, int run) {
+        return new SplittableRandom(seed + run * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /**
+     * Summarizes a histogram of battles survived as mean, percentiles and the count per number of battles.
+     *
+     * @param histogram The histogram returned by `simulate`.
+     * @return The formatted report.
+     */
+    public static String report(long[] histogram) {
+        long runs = 0;
+        long total = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            runs += histogram[i];
+            total += i * histogram[i];
+        }
+        StringBuilder sb = new StringBuilder();
+        if (runs == 0) {
+            return sb.append("No runs\n").toString();
+        }
+        sb.append(String.format("mean %.3f  p50 %d  p90 %d  p99 %d  max %d%n", (double) total / runs,
+                percentile(histogram, runs, 0.50), percentile(histogram, runs, 0.90),
+                percentile(histogram, runs, 0.99), percentile(histogram, runs, 1.0)));
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                sb.append(String.format("%5d battles: %d%n", i, histogram[i]));
+            }
+        }
+        if (histogram[histogram.length - 1] != 0) {
+            sb.append("(runs at ").append(histogram.length - 1).append(" battles hit the limit)\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the smallest number of battles that at least the given share of runs didn't exceed.
+     *
+     * @param histogram A histogram of battles survived, as returned by `simulate`.
+     * @param runs The number of runs counted in the histogram.
+     * @param p The share of runs, between 0 and 1.
+     * @return The number of battles at that percentile.
+     */
+    public static int percentile(long[] histogram, long runs, double p) {
+        long rank = Math.max(1, (long) Math.ceil(p * runs));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return histogram.length - 1;
+    }
+}
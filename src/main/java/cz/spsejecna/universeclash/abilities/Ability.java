@@ -1,9 +1,18 @@
 package cz.spsejecna.universeclash.abilities;
 
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
 public class Ability {
 
     private String abilityName;
     private String abilityDescription;
+    private final int cost;
+    private final AbilityTargetEnum target;
+    private final AbilityOperation[] operations;
 
     /**
      * Constructs an `Ability` object using the provided `AbilityBuilder`.
@@ -16,6 +25,34 @@ public class Ability {
     private Ability(AbilityBuilder builder) {
         this.abilityName = builder.abilityName;
         this.abilityDescription = builder.abilityDescription;
+        this.cost = builder.cost;
+        this.target = builder.target;
+        this.operations = builder.operations.toArray(new AbilityOperation[0]);
+    }
+
+    /**
+     * Uses the ability. If the caster has enough SP, the cost is paid, the target selector is resolved
+     * and every operation is applied to each target in the order they were declared in the catalog.
+     * The teams are given from the caster's point of view, so enemies use the very same ability objects
+     * as the player's characters and only differ in the `TargetSelector` they pass in.
+     *
+     * @param caster The character using the ability.
+     * @param allies An `ArrayList` of `Character` objects on the caster's side.
+     * @param enemies An `ArrayList` of `Character` objects on the opposing side.
+     * @param selector The `TargetSelector` used to choose a single enemy or ally.
+     * @param rand The source of randomness for chances and random targets.
+     * @return `true` if the ability was used, `false` if the caster didn't have enough SP.
+     */
+    public boolean use(Character caster, ArrayList<Character> allies, ArrayList<Character> enemies,
+                       TargetSelector selector, RandomGenerator rand) {
+        if (caster.getCurrentSP() < cost) {
+            return false;
+        }
+        if (cost != 0) {
+            caster.changeSP(-cost);
+        }
+        new AbilityContext(caster, allies, enemies, selector, rand).apply(target, operations);
+        return true;
     }
 
     /**
@@ -36,6 +73,24 @@ public class Ability {
         return abilityDescription;
     }
 
+    /**
+     * Returns the SP needed to use the ability.
+     *
+     * @return The SP cost.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns who the ability affects.
+     *
+     * @return The `AbilityTargetEnum` of the ability.
+     */
+    public AbilityTargetEnum getTarget() {
+        return target;
+    }
+
     /**
      * A static nested builder class for constructing `Ability` objects.
      * This builder provides a fluent API to set the name and description
@@ -44,6 +99,9 @@ public class Ability {
     public static class AbilityBuilder{
         public String abilityName;
         public String abilityDescription;
+        public int cost;
+        public AbilityTargetEnum target = AbilityTargetEnum.SELF;
+        public List<AbilityOperation> operations = new ArrayList<>();
 
         /**
          * Sets the name of the ability being built.
@@ -67,6 +125,39 @@ public class Ability {
             return this;
         }
 
+        /**
+         * Sets the SP needed to use the ability.
+         *
+         * @param cost The SP cost.
+         * @return The current `AbilityBuilder` instance for method chaining.
+         */
+        public AbilityBuilder setCost(int cost) {
+            this.cost = cost;
+            return this;
+        }
+
+        /**
+         * Sets who the ability affects.
+         *
+         * @param target The `AbilityTargetEnum` of the ability.
+         * @return The current `AbilityBuilder` instance for method chaining.
+         */
+        public AbilityBuilder setTarget(AbilityTargetEnum target) {
+            this.target = target;
+            return this;
+        }
+
+        /**
+         * Appends an operation applied to every target of the ability.
+         *
+         * @param operation The `AbilityOperation` to append.
+         * @return The current `AbilityBuilder` instance for method chaining.
+         */
+        public AbilityBuilder addOperation(AbilityOperation operation) {
+            this.operations.add(operation);
+            return this;
+        }
+
         /**
          * Builds and returns a new `Ability` object with the properties
          * set in this builder.
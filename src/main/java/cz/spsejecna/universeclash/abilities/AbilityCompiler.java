@@ -0,0 +1,171 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.effects.EffectRepository;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+public final class AbilityCompiler {
+
+    private final EffectRepository effectRepository;
+
+    /**
+     * Constructs a compiler resolving effect names against the given effect catalog.
+     *
+     * @param effectRepository The loaded `EffectRepository`.
+     */
+    public AbilityCompiler(EffectRepository effectRepository) {
+        this.effectRepository = effectRepository;
+    }
+
+    /**
+     * Compiles an ability declared in the character catalog into an `Ability`.
+     * The JSON object holds the name, description, `target`, `cost` and a list of `operations`.
+     * Every operation is turned into an `AbilityOperation` with its amounts and effect IDs bound
+     * up front, so using the ability never looks anything up by name.
+     *
+     * @param json The JSON object of the ability.
+     * @return The compiled `Ability`.
+     * @throws IllegalArgumentException If the ability refers to an unknown operation, target or effect.
+     */
+    public Ability compile(JSONObject json) {
+        Ability.AbilityBuilder builder = new Ability.AbilityBuilder()
+                .setAbilityName((String) json.get("name"))
+                .setAbilityDescription((String) json.get("description"))
+                .setCost(getInt(json, "cost", 0))
+                .setTarget(AbilityTargetEnum.valueOf((String) json.get("target")));
+        for (AbilityOperation operation : compileOperations((JSONArray) json.get("operations"))) {
+            builder.addOperation(operation);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compiles a list of operations declared the same way as in an ability.
+     * Other catalogs use this to describe what they do with the same building blocks as abilities.
+     *
+     * @param jsonOperations The JSON array of operations, may be `null`.
+     * @return The compiled operations, in the declared order.
+     * @throws IllegalArgumentException If an operation refers to an unknown operation, target or effect.
+     */
+    public AbilityOperation[] compileOperations(JSONArray jsonOperations) {
+        if (jsonOperations == null) {
+            return new AbilityOperation[0];
+        }
+        AbilityOperation[] operations = new AbilityOperation[jsonOperations.size()];
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = compileOperation((JSONObject) jsonOperations.get(i));
+        }
+        return operations;
+    }
+
+    private AbilityOperation compileOperation(JSONObject json) {
+        OperationTypeEnum type = OperationTypeEnum.valueOf((String) json.get("op"));
+        AbilityOperation operation = switch (type) {
+            case DAMAGE -> {
+                int amount = getInt(json, "amount", 0);
+                yield scaled(json, (context, target, n) -> DamageCalculator.dealDamage(context.getCaster(), target, n), amount);
+            }
+            case LOSE_HP -> {
+                int amount = getInt(json, "amount", 0);
+                // Bypasses "Strong", "Tough" and "Nullify"
+                yield scaled(json, (context, target, n) -> target.changeHP(-n), amount);
+            }
+            case HEAL -> {
+                int amount = getInt(json, "amount", 0);
+                if (Boolean.TRUE.equals(json.get("ignoreBleed"))) {
+                    yield scaled(json, (context, target, n) -> target.changeHP(n), amount);
+                }
+                yield scaled(json, (context, target, n) -> DamageCalculator.heal(target, n), amount);
+            }
+            case RESTORE_SP -> {
+                int amount = getInt(json, "amount", 0);
+                yield (context, target) -> target.changeSP(amount);
+            }
+            case APPLY -> {
+                int effectId = effectRepository.getEffectId((String) json.get("effect"));
+                int duration = getInt(json, "duration", 1);
+                double chance = getDouble(json, "chance", 1);
+                if (chance >= 1) {
+                    yield (context, target) -> target.addEffect(effectId, duration);
+                }
+                yield (context, target) -> {
+                    if (context.getRandom().nextDouble() < chance) {
+                        target.addEffect(effectId, duration);
+                    }
+                };
+            }
+            case APPLY_RANDOM -> {
+                JSONArray names = (JSONArray) json.get("effects");
+                int[] effectIds = new int[names.size()];
+                for (int i = 0; i < effectIds.length; i++) {
+                    effectIds[i] = effectRepository.getEffectId((String) names.get(i));
+                }
+                int duration = getInt(json, "duration", 1);
+                yield (context, target) -> target.addEffect(effectIds[context.getRandom().nextInt(effectIds.length)], duration);
+            }
+            case REMOVE -> {
+                int effectId = effectRepository.getEffectId((String) json.get("effect"));
+                yield (context, target) -> target.removeEffect(effectId);
+            }
+            case SET_MAX_HP -> {
+                int min = getInt(json, "min", 1);
+                int max = getInt(json, "max", min);
+                yield (context, target) -> target.setMaxHP(min + context.getRandom().nextInt(max - min + 1));
+            }
+            case EITHER -> {
+                double chance = getDouble(json, "chance", 0.5);
+                AbilityOperation[] then = compileOperations((JSONArray) json.get("then"));
+                AbilityOperation[] otherwise = compileOperations((JSONArray) json.get("otherwise"));
+                yield (context, target) -> {
+                    AbilityOperation[] branch = context.getRandom().nextDouble() < chance ? then : otherwise;
+                    for (AbilityOperation op : branch) {
+                        op.apply(context, target);
+                    }
+                };
+            }
+        };
+
+        // An operation can redirect itself away from the ability's target, e.g. to hurt the caster instead
+        String redirect = (String) json.get("target");
+        if (redirect != null) {
+            AbilityTargetEnum target = AbilityTargetEnum.valueOf(redirect);
+            AbilityOperation[] inner = {operation};
+            return (context, ignored) -> context.apply(target, inner);
+        }
+        return operation;
+    }
+
+    /**
+     * Wraps an amount-based operation. If the JSON names an effect in `perEnemyWith`, the amount
+     * is multiplied by the number of the caster's enemies having that effect when the operation runs.
+     */
+    private AbilityOperation scaled(JSONObject json, AmountOperation operation, int amount) {
+        String perEnemyWith = (String) json.get("perEnemyWith");
+        if (perEnemyWith == null) {
+            return (context, target) -> operation.apply(context, target, amount);
+        }
+        int effectId = effectRepository.getEffectId(perEnemyWith);
+        return (context, target) -> {
+            int n = amount * context.countEnemiesWith(effectId);
+            if (n != 0) {
+                operation.apply(context, target, n);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface AmountOperation {
+        void apply(AbilityContext context, Character target, int amount);
+    }
+
+    private static int getInt(JSONObject json, String key, int defaultValue) {
+        Object value = json.get(key);
+        return value == null ? defaultValue : Math.toIntExact((long) value);
+    }
+
+    private static double getDouble(JSONObject json, String key, double defaultValue) {
+        Object value = json.get(key);
+        return value == null ? defaultValue : ((Number) value).doubleValue();
+    }
+}
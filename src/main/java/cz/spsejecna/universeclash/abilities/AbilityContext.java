@@ -0,0 +1,100 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+public class AbilityContext {
+    private final Character caster;
+    private final ArrayList<Character> allies;
+    private final ArrayList<Character> enemies;
+    private final TargetSelector selector;
+    private final RandomGenerator rand;
+
+    /**
+     * Constructs the context of a single use of an ability. The teams are given from the caster's
+     * point of view, so the same ability works for the player's characters and for enemies alike.
+     *
+     * @param caster The character using the ability.
+     * @param allies An `ArrayList` of `Character` objects on the caster's side.
+     * @param enemies An `ArrayList` of `Character` objects on the opposing side.
+     * @param selector The `TargetSelector` used when the ability needs a single chosen target.
+     * @param rand The source of randomness for chances and random targets.
+     */
+    public AbilityContext(Character caster, ArrayList<Character> allies, ArrayList<Character> enemies,
+                          TargetSelector selector, RandomGenerator rand) {
+        this.caster = caster;
+        this.allies = allies;
+        this.enemies = enemies;
+        this.selector = selector;
+        this.rand = rand;
+    }
+
+    /**
+     * Resolves the given target selector and applies every operation, in order, to each resolved target.
+     *
+     * @param target The `AbilityTargetEnum` describing who is affected.
+     * @param operations The operations to apply to each target.
+     */
+    public void apply(AbilityTargetEnum target, AbilityOperation[] operations) {
+        switch (target) {
+            case SELF -> applyTo(caster, operations);
+            case ENEMY -> applyTo(selector.select(enemies), operations);
+            case ALLY -> applyTo(selector.select(allies), operations);
+            case RANDOM_ENEMY -> applyTo(enemies.get(rand.nextInt(enemies.size())), operations);
+            case ALL_ENEMIES -> applyToAll(enemies, operations);
+            case ALL_ALLIES -> applyToAll(allies, operations);
+            case EVERYONE -> {
+                applyToAll(enemies, operations);
+                applyToAll(allies, operations);
+            }
+        }
+    }
+
+    private void applyTo(Character target, AbilityOperation[] operations) {
+        for (AbilityOperation operation : operations) {
+            operation.apply(this, target);
+        }
+    }
+
+    private void applyToAll(ArrayList<Character> team, AbilityOperation[] operations) {
+        for (Character ch : team) {
+            applyTo(ch, operations);
+        }
+    }
+
+    /**
+     * Counts the caster's enemies that currently have the given effect.
+     *
+     * @param effectId The ID of the effect.
+     * @return The number of enemies with the effect active.
+     */
+    public int countEnemiesWith(int effectId) {
+        int count = 0;
+        for (Character enemy : enemies) {
+            if (enemy.hasEffect(effectId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the character using the ability.
+     *
+     * @return The caster.
+     */
+    public Character getCaster() {
+        return caster;
+    }
+
+    /**
+     * Returns the source of randomness for this use of the ability.
+     *
+     * @return The session's `RandomGenerator`.
+     */
+    public RandomGenerator getRandom() {
+        return rand;
+    }
+}
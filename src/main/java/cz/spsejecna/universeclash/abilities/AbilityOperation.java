@@ -0,0 +1,16 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+@FunctionalInterface
+public interface AbilityOperation {
+
+    /**
+     * Applies one step of an ability to a single target. Operations are built once when the catalog
+     * is loaded, with all of their amounts and effect IDs already resolved.
+     *
+     * @param context The `AbilityContext` of the current use of the ability.
+     * @param target The character the step is applied to.
+     */
+    void apply(AbilityContext context, Character target);
+}
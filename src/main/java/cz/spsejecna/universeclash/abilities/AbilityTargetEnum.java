@@ -0,0 +1,13 @@
+package cz.spsejecna.universeclash.abilities;
+
+public enum AbilityTargetEnum {
+
+    SELF,
+    ENEMY,
+    ALLY,
+    RANDOM_ENEMY,
+    ALL_ENEMIES,
+    ALL_ALLIES,
+    EVERYONE
+
+}
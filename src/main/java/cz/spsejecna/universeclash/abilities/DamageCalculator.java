@@ -0,0 +1,66 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.effects.ActiveEffects;
+
+import java.util.List;
+
+public final class DamageCalculator {
+
+    private DamageCalculator() {
+    }
+
+    /**
+     * Resolves how much damage a hit deals, using the cached modifier aggregates of both sides.
+     * "Nullify" on the target cancels the hit, "Strong" on the attacker adds to it
+     * and "Tough" on the target takes from it. A hit never heals the target.
+     *
+     * @param attacker The effects of the attacking character.
+     * @param target The effects of the character being hit.
+     * @param baseDamage The damage of the hit before modifiers.
+     * @return The amount of HP the target loses.
+     */
+    public static int resolveDamage(ActiveEffects attacker, ActiveEffects target, int baseDamage) {
+        if (target.isImmune()) {
+            return 0;
+        }
+        return Math.max(0, baseDamage + attacker.getDamageBonus() - target.getDamageReduction());
+    }
+
+    /**
+     * Hits a single target and applies the resulting damage.
+     *
+     * @param attacker The attacking character.
+     * @param target The character being hit.
+     * @param baseDamage The damage of the hit before modifiers.
+     */
+    public static void dealDamage(Character attacker, Character target, int baseDamage) {
+        target.changeHP(-resolveDamage(attacker.getEffects(), target.getEffects(), baseDamage));
+    }
+
+    /**
+     * Hits every character in the list with the same base damage.
+     *
+     * @param attacker The attacking character.
+     * @param targets The characters being hit.
+     * @param baseDamage The damage of each hit before modifiers.
+     */
+    public static void dealDamageToAll(Character attacker, List<Character> targets, int baseDamage) {
+        ActiveEffects attackerEffects = attacker.getEffects();
+        for (Character target : targets) {
+            target.changeHP(-resolveDamage(attackerEffects, target.getEffects(), baseDamage));
+        }
+    }
+
+    /**
+     * Heals a character unless "Bleed" blocks healing.
+     *
+     * @param target The character being healed.
+     * @param amount The amount of HP to restore.
+     */
+    public static void heal(Character target, int amount) {
+        if (!target.getEffects().isHealBlocked()) {
+            target.changeHP(amount);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package cz.spsejecna.universeclash.abilities;
+
+public enum OperationTypeEnum {
+
+    DAMAGE,
+    LOSE_HP,
+    HEAL,
+    RESTORE_SP,
+    APPLY,
+    APPLY_RANDOM,
+    REMOVE,
+    SET_MAX_HP,
+    EITHER
+
+}
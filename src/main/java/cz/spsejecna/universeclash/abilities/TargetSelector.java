@@ -0,0 +1,18 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.ArrayList;
+
+@FunctionalInterface
+public interface TargetSelector {
+
+    /**
+     * Chooses a single character out of a team. The player's characters ask for the target,
+     * while enemies simply pick one at random.
+     *
+     * @param team An `ArrayList` of `Character` objects the target is chosen from.
+     * @return The chosen `Character`.
+     */
+    Character select(ArrayList<Character> team);
+}
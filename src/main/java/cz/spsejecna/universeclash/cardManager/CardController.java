@@ -1,25 +1,28 @@
 package cz.spsejecna.universeclash.cardManager;
 
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.cards.CardRepository;
 import cz.spsejecna.universeclash.cards.Card;
 
 
 import java.util.ArrayList;
-import java.util.Objects;
 
 public class CardController {
     private final ArrayList<Card> cards = new ArrayList<>();
-    private final CardRepository cardRepository = new CardRepository();
+    private final CardRepository cardRepository = GameData.get().getCardRepository();
+    private final int[] counts = new int[cardRepository.getCardCount()]; // number of copies held, indexed by card id
 
     /**
      * Adds a new card to the player's collection.
      * The card is obtained as a copy from the `CardRepository` based on its unique ID.
      * This ensures that each card in the collection is a distinct instance.
+     * The count of that card is updated right away, so none of the queries below ever scan the collection.
      *
      * @param id The integer ID of the card to be added.
      */
     public void addCard(int id){
-        cards.add(cardRepository.obtainCard(id).copy());
+        cards.add(cardRepository.obtainCard(id));
+        counts[id]++;
     }
 
     /**
@@ -31,19 +34,23 @@ public class CardController {
         return cards;
     }
 
+    /**
+     * Returns how many copies of a card the player holds.
+     *
+     * @param id The integer ID of the card.
+     * @return The number of copies, or 0 for an unknown ID.
+     */
+    public int numberOfCards(int id){
+        return id >= 0 && id < counts.length ? counts[id] : 0;
+    }
+
     /**
      * Counts the number of "Regeneration" cards in the player's collection.
      *
      * @return The total count of "Regeneration" cards.
      */
     public int numberOfRegenerationCards(){
-        int number = 0;
-        for (Card c : cards){
-            if(Objects.equals(c.getName(), "Regeneration")){
-                number++;
-            }
-        }
-        return number;
+        return numberOfCards(Card.REGENERATION);
     }
 
     /**
@@ -52,13 +59,7 @@ public class CardController {
      * @return The total count of "Restoration" cards.
      */
     public int numberOfRestorationCards(){
-        int number = 0;
-        for (Card c : cards){
-            if(Objects.equals(c.getName(), "Restoration")){
-                number++;
-            }
-        }
-        return number;
+        return numberOfCards(Card.RESTORATION);
     }
 
     /**
@@ -67,14 +68,7 @@ public class CardController {
      * @return The calculated value based on the number of "Gift" cards.
      */
     public int numberOfGiftCards(){
-        int number = 0;
-        for (Card c : cards){
-            if(Objects.equals(c.getName(), "Gift")){
-                number++;
-            }
-        }
-        number = number * 3; // "Gift" cards provide 3 times their count
-        return number;
+        return numberOfCards(Card.GIFT) * 3; // "Gift" cards provide 3 times their count
     }
 
     /**
@@ -83,14 +77,7 @@ public class CardController {
      * @return The calculated value based on the number of "Last" cards.
      */
     public int numberOfLastCards(){
-        int number = 0;
-        for (Card c :cards){
-            if(Objects.equals(c.getName(), "Last")) {
-                number++;
-            }
-        }
-        number = number * 5; // "Last" cards provide 5 times their count
-        return number;
+        return numberOfCards(Card.LAST) * 5; // "Last" cards provide 5 times their count
     }
 
     /**
@@ -99,13 +86,7 @@ public class CardController {
      * @return The total count of "Anchor" cards.
      */
     public int numberOfAnchorCards(){
-        int number = 0;
-        for (Card c : cards){
-            if(Objects.equals(c.getName(), "Anchor")){
-                number++;
-            }
-        }
-        return number;
+        return numberOfCards(Card.ANCHOR);
     }
 
     /**
@@ -114,12 +95,6 @@ public class CardController {
      * @return The total count of "Snowballing" cards.
      */
     public int numberOfSnowballingCards(){
-        int number = 0;
-        for (Card c : cards){
-            if(Objects.equals(c.getName(), "Snowballing")){
-                number++;
-            }
-        }
-        return number;
+        return numberOfCards(Card.SNOWBALLING);
     }
-}
\ No newline at end of file
+}
@@ -1,60 +1,48 @@
 package cz.spsejecna.universeclash.cardManager;
 
+import cz.spsejecna.universeclash.DraftSampler;
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.cards.Card;
 import cz.spsejecna.universeclash.cards.CardRepository;
+import cz.spsejecna.universeclash.controllers.Controller;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Random;
-import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 public class CardPicker {
 
-    private final Random rand = new Random();
-    private final Scanner sc = new Scanner(System.in);
-    private final CardRepository cardRepository = new CardRepository();
+    private final RandomGenerator rand;
+    private final Controller controller;
+    private final CardRepository cardRepository = GameData.get().getCardRepository();
+    private final DraftSampler sampler = new DraftSampler(cardRepository.getDraftTable());
+    private final int[] picks = new int[3];
+    private final ArrayList<Card> options = new ArrayList<>(3);
 
     /**
-     * Generates three random and unique card options for the player to choose from.
-     * It displays the details of each card and prompts the user to select one by its ID.
-     * The method ensures that the chosen ID corresponds to one of the presented options
-     * and handles invalid input.
+     * Constructs a `CardPicker` letting the given controller choose the cards.
+     *
+     * @param controller The `Controller` deciding which card is taken.
+     * @param rand The random generator the options are drawn with.
+     */
+    public CardPicker(Controller controller, RandomGenerator rand) {
+        this.controller = controller;
+        this.rand = rand;
+    }
+
+    /**
+     * Generates three unique card options, drawn by their rarity weights, and lets the controller choose one of them.
+     * The options are the shared card templates, so nothing is copied until the chosen card is added.
      *
      * @return The integer ID of the card chosen by the player.
      */
     public int generatePicks(){
-        // Get a fresh copy of all available cards to pick from
-        HashMap<Integer, Card> remainingCards = cardRepository.getCards();
-        ArrayList<Card> options = new ArrayList<>();
-
         // Select 3 random and unique cards
-        for (int i = 0; i < 3; i++) {
-            // Convert HashMap values to an array to pick a random element
-            Object[] remainingCardsArray = remainingCards.values().toArray();
-            // Pick a random card from the available ones
-            Card randomCard = (Card) remainingCardsArray[rand.nextInt(remainingCardsArray.length)];
-            options.add(randomCard);
-            System.out.println(randomCard.toString()); // Display the card details to the player
-            remainingCards.remove(randomCard.getCardId()); // Remove the selected card to ensure uniqueness
+        int drawn = sampler.sample(3, picks, rand);
+        options.clear();
+        for (int i = 0; i < drawn; i++) {
+            options.add(cardRepository.getTemplate(picks[i]));
         }
 
-        // Prompt the player for their choice and validate input
-        System.out.print("Type the id of the card you want.\n>id: ");
-        while (true) {
-            try{
-                int chosen = sc.nextInt();
-                // Check if the chosen ID matches any of the presented options
-                if (options.get(0).getCardId() == chosen ||
-                        options.get(1).getCardId() == chosen ||
-                        options.get(2).getCardId() == chosen) {
-                    return chosen;
-                } else {
-                    System.out.println("Card with that id isn't currently available");
-                }
-            } catch (Exception e){
-                System.err.println("ID has to be an integer."); // Handle non-integer input
-                sc.nextLine(); // Consume the invalid input to prevent infinite loop
-            }
-        }
+        return controller.chooseCard(options);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,18 @@
 package cz.spsejecna.universeclash.cards;
 
 public class Card {
+    // Card IDs as assigned in cards.json, used wherever the engine checks for a specific card
+    public static final int HEALTHY = 0;
+    public static final int ENERGETIC = 1;
+    public static final int REGENERATION = 2;
+    public static final int RESTORATION = 3;
+    public static final int GIFT = 4;
+    public static final int MONEY = 5;
+    public static final int ANCHOR = 6;
+    public static final int SNOWBALLING = 7;
+    public static final int LAST = 8;
+    public static final int BANK = 9;
+
     private final int id;
     private final String name;
     private final String description;
@@ -1,6 +1,9 @@
 package cz.spsejecna.universeclash.cards;
 
+import cz.spsejecna.universeclash.AliasTable;
 import cz.spsejecna.universeclash.PathFinder;
+import cz.spsejecna.universeclash.RarityEnum;
+import cz.spsejecna.universeclash.exceptions.CatalogLoadException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -12,6 +15,8 @@ import java.util.stream.Collectors;
 
 public class CardRepository {
     private final HashMap<Integer, Card> cards = new HashMap<>();
+    private int cardCount = 0;
+    private AliasTable draftTable;
 
     /**
      * Constructs a `CardRepository` and automatically loads all card data
@@ -26,13 +31,17 @@ public class CardRepository {
      * It parses the JSON array, and for each card object, extracts its ID, name, and description.
      * A new `Card` object is then built with these properties and stored in the `cards` HashMap,
      * using the card's ID as the key.
-     * If there's an error during file reading or parsing, it prints an error message and exits the program.
+     * Each card may declare a `rarity` and an explicit `weight` overriding the rarity's default;
+     * the weights are turned into the `AliasTable` every draft draws from.
+     * If the file can't be read or parsed, a `CatalogLoadException` is thrown.
      */
     private void loadCards(){
         JSONParser parser = new JSONParser();
 
         try {
             JSONArray a = (JSONArray) parser.parse(new FileReader(PathFinder.cardsFilePath));
+            int[] ids = new int[a.size()];
+            double[] weights = new double[a.size()];
 
             for (Object o : a) {
                 JSONObject jsonCard = (JSONObject) o;
@@ -42,11 +51,18 @@ public class CardRepository {
 
                 Card card = new Card.CardBuilder().setId(id).setName(name).setDescription(description).build();
 
+                String rarityName = (String) jsonCard.get("rarity");
+                RarityEnum rarity = rarityName == null ? RarityEnum.COMMON : RarityEnum.valueOf(rarityName);
+                Object weight = jsonCard.get("weight");
+                ids[cards.size()] = id;
+                weights[cards.size()] = weight == null ? rarity.getWeight() : ((Number) weight).doubleValue();
+
                 cards.put(id, card);
+                cardCount = Math.max(cardCount, id + 1);
             }
+            draftTable = new AliasTable(ids, weights);
         } catch (Exception e) {
-            System.err.println("Failed to load cards. Shutting down.\n" + e.getMessage());
-            System.exit(1);
+            throw new CatalogLoadException("cards", PathFinder.cardsFilePath, e);
         }
     }
 
@@ -63,6 +79,44 @@ public class CardRepository {
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().copy()));
     }
 
+    /**
+     * Returns the shared template of a card without copying it.
+     * Templates must not be modified; they are only meant for showing the card.
+     *
+     * @param cardid The integer ID of the card.
+     * @return The template `Card`, or `null` if a card with the given ID does not exist.
+     */
+    public Card getTemplate(int cardid) {
+        return cards.get(cardid);
+    }
+
+    /**
+     * Returns the IDs of all loaded cards.
+     *
+     * @return A new array holding every card ID.
+     */
+    public int[] getCardIds() {
+        return cards.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the weighted table the card drafts draw from.
+     *
+     * @return The shared `AliasTable` of all loaded cards.
+     */
+    public AliasTable getDraftTable() {
+        return draftTable;
+    }
+
+    /**
+     * Returns the number of card slots needed to index every loaded card by its ID.
+     *
+     * @return The highest card ID plus one.
+     */
+    public int getCardCount() {
+        return cardCount;
+    }
+
     /**
      * Retrieves a copy of a `Card` from the repository based on its ID.
      * This method ensures that a new instance of the card is returned,
@@ -1,136 +1,37 @@
 package cz.spsejecna.universeclash.characters;
 
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.abilities.Ability;
-import cz.spsejecna.universeclash.effects.Effect;
-import cz.spsejecna.universeclash.effects.EffectRepository;
+import cz.spsejecna.universeclash.effects.ActiveEffects;
 import cz.spsejecna.universeclash.effects.EffectTypeEnum;
-
-import java.util.ArrayList;
+import cz.spsejecna.universeclash.eventBus.GameEventBus;
+import cz.spsejecna.universeclash.exceptions.GameStateException;
 
 public class Character {
-    private final EffectRepository effectRepository = new EffectRepository();
-    private final int characterID;
-    private final String name;
+    private final CharacterTemplate template;
     private int maxHP;
     private int currentHP;
     private int maxSP;
     private int currentSP;
-    private final ArrayList<Effect> effects = new ArrayList<>();
+    private ActiveEffects effects; // created on first use, once the character is fully constructed
     private boolean alive = true;
-    private final Ability ability1;
-    private final Ability ability2;
+    private boolean dirty = true; // HP, SP or effects changed since the character was last rendered
+    private DeathListener deathListener;
+    private GameEventBus eventBus;
 
     /**
-     * Constructs a `Character` object using the provided `CharacterBuilder`.
-     * This private constructor ensures that `Character` instances are created
-     * exclusively through the builder pattern, promoting a more readable
-     * and flexible construction process.
+     * Constructs a `Character` in its starting combat state for the given template.
+     * Only the values that change during a run (HP, SP, effects and the alive flag) live here;
+     * everything static is read from the shared `CharacterTemplate`.
      *
-     * @param builder The `CharacterBuilder` instance containing the desired properties for the character.
+     * @param template The `CharacterTemplate` this character is an instance of.
      */
-    private Character(CharacterBuilder builder) {
-        this.characterID = builder.characterID;
-        this.name = builder.name;
-        this.maxHP = builder.maxHP;
+    public Character(CharacterTemplate template) {
+        this.template = template;
+        this.maxHP = template.getBaseHP();
         this.currentHP = maxHP; // Current HP initializes to max HP
-        this.maxSP = builder.maxSP;
+        this.maxSP = template.getBaseSP();
         this.currentSP = maxSP; // Current SP initializes to max SP
-        this.ability1 = builder.ability1;
-        this.ability2 = builder.ability2;
-    }
-
-    /**
-     * A static nested builder class for constructing `Character` objects.
-     * This builder provides a fluent API to set various properties of a character
-     * before it's built, enhancing readability and maintainability of character creation.
-     */
-    public static class CharacterBuilder{
-        public int characterID;
-        public String name;
-        public int maxHP;
-        public int maxSP;
-        public Ability ability1;
-        public Ability ability2;
-
-        /**
-         * Sets the unique identifier for the character.
-         *
-         * @param id The integer ID of the character.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setID(int id){
-            this.characterID = id;
-            return this;
-        }
-
-        /**
-         * Sets the name of the character.
-         *
-         * @param name The string name of the character.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setName(String name) {
-            this.name = name;
-            return this;
-        }
-
-        /**
-         * Sets the maximum health points for the character.
-         *
-         * @param maxHP The maximum HP value.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setMaxHP(int maxHP) {
-            this.maxHP = maxHP;
-            return this;
-        }
-
-        /**
-         * Sets the maximum special points for the character.
-         *
-         * @param maxSP The maximum SP value.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setMaxSP(int maxSP) {
-            this.maxSP = maxSP;
-            return this;
-        }
-
-        /**
-         * Sets the first ability of the character with its name and description.
-         * It creates a new `Ability` object using its own builder.
-         *
-         * @param name The name of the first ability.
-         * @param description The description of the first ability.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setAbility1(String name, String description) {
-            this.ability1 = new Ability.AbilityBuilder().setAbilityName(name).setAbilityDescription(description).build();
-            return this;
-        }
-
-        /**
-         * Sets the second ability of the character with its name and description.
-         * It creates a new `Ability` object using its own builder.
-         *
-         * @param name The name of the second ability.
-         * @param description The description of the second ability.
-         * @return The current `CharacterBuilder` instance for method chaining.
-         */
-        public CharacterBuilder setAbility2(String name, String description) {
-            this.ability2 = new Ability.AbilityBuilder().setAbilityName(name).setAbilityDescription(description).build();
-            return this;
-        }
-
-        /**
-         * Builds and returns a new `Character` object with the properties
-         * set in this builder.
-         *
-         * @return A new `Character` instance.
-         */
-        public Character build(){
-            return new Character(this);
-        }
     }
 
     /**
@@ -141,7 +42,7 @@ public class Character {
      */
     @Override
     public String toString() {
-        return '[' + name + "] "+currentHP+'/'+maxHP+"HP  "+currentSP+'/'+maxSP+"SP  ("+effects+")\n";
+        return '[' + template.getName() + "] "+currentHP+'/'+maxHP+"HP  "+currentSP+'/'+maxSP+"SP  ("+getEffects()+")\n";
     }
 
     /**
@@ -151,7 +52,8 @@ public class Character {
      * @return A comprehensive formatted string of the character's details.
      */
     public String fullinfo(){
-        return "\n[["+name+"]] {id:"+characterID+"}  HP: "+maxHP+"  SP: "+maxSP+ability1+ability2;
+        return "\n[["+template.getName()+"]] {id:"+template.getCharacterID()+"}  HP: "+maxHP+"  SP: "+maxSP
+                +template.getAbility1()+template.getAbility2();
     }
 
     /**
@@ -160,7 +62,7 @@ public class Character {
      * @return The character's name.
      */
     public String getName() {
-        return name;
+        return template.getName();
     }
 
     /**
@@ -200,42 +102,75 @@ public class Character {
     }
 
     /**
-     * Returns the list of active effects on the character.
+     * Returns the active effects on the character, creating them on first use.
      *
-     * @return An `ArrayList` of `Effect` objects currently affecting the character.
+     * @return The `ActiveEffects` state of the character.
      */
-    public ArrayList<Effect> getEffects() {
+    public ActiveEffects getEffects() {
+        if (effects == null) {
+            effects = new ActiveEffects(this, GameData.get().getEffectRepository());
+        }
         return effects;
     }
 
     /**
-     * Adds a new effect to the character's active effects list.
-     * The effect is obtained from the `EffectRepository` and its duration is increased
-     * by one (plus the specified duration) before being added.
+     * Applies an effect to the character. The stored duration is one higher than requested
+     * so that the effect outlives the rest of the turn it was applied in.
+     * If the effect is already active, its stacking policy decides whether the duration is refreshed,
+     * extended or left alone and whether another stack is added, so reapplying never grows the effect state.
+     * The application is published as an event, whether or not the effect was already active.
      *
-     * @param effectName The name of the effect to add.
+     * @param effectId The ID of the effect to add.
      * @param duration The base duration of the effect to be added.
      */
-    public void addEffect(String effectName, int duration){
-        // Obtain a copy of the effect and increase its duration before adding
-        effects.add(effectRepository.obtainEffect(effectName).copy().increaseDuration(duration+1));
+    public void addEffect(int effectId, int duration){
+        getEffects().add(effectId, duration + 1);
+        if (eventBus != null) {
+            eventBus.publishEffectApplied(this, effectId, duration);
+        }
+    }
+
+    /**
+     * Checks whether the character currently has the given effect.
+     *
+     * @param effectId The ID of the effect.
+     * @return `true` if the effect is active, `false` otherwise.
+     */
+    public boolean hasEffect(int effectId){
+        return getEffects().has(effectId);
+    }
+
+    /**
+     * Removes a single effect from the character, if present.
+     *
+     * @param effectId The ID of the effect to remove.
+     */
+    public void removeEffect(int effectId){
+        getEffects().remove(effectId);
     }
 
     /**
      * Returns the number of effects currently active on the character.
      *
-     * @return The size of the effects list.
+     * @return The number of active effects.
      */
     public int getEffectsSize(){
-        return effects.size();
+        return getEffects().size();
     }
 
     /**
-     * Removes all debuff effects from the character's active effects list.
+     * Removes all debuff effects from the character's active effects.
      * Effects are identified as debuffs based on their `EffectTypeEnum`.
      */
     public void removeDebuffs(){
-        effects.removeIf(ef -> ef.getType() == EffectTypeEnum.DEBUFF);
+        getEffects().removeAll(GameData.get().getEffectRepository().getTypeMask(EffectTypeEnum.DEBUFF));
+    }
+
+    /**
+     * Removes every effect from the character.
+     */
+    public void clearEffects(){
+        getEffects().clear();
     }
 
     /**
@@ -254,7 +189,16 @@ public class Character {
      * @return The character's ID.
      */
     public int getCharacterID(){
-        return characterID;
+        return template.getCharacterID();
+    }
+
+    /**
+     * Returns the shared template this character was spawned from.
+     *
+     * @return The character's `CharacterTemplate`.
+     */
+    public CharacterTemplate getTemplate() {
+        return template;
     }
 
     /**
@@ -263,7 +207,7 @@ public class Character {
      * @return The `Ability` object representing the character's first ability.
      */
     public Ability getAbility1() {
-        return ability1;
+        return template.getAbility1();
     }
 
     /**
@@ -272,40 +216,106 @@ public class Character {
      * @return The `Ability` object representing the character's second ability.
      */
     public Ability getAbility2() {
-        return ability2;
+        return template.getAbility2();
     }
 
     /**
      * Changes the character's current HP by a specified amount.
      * HP cannot exceed `maxHP` and cannot drop below 0.
-     * If HP drops to 0 or less, the character is marked as not alive.
+     * If HP drops to 0 or less, the character is marked as not alive and its `DeathListener` is notified.
+     * Any HP actually lost is published as a damage event before that.
      *
      * @param changeHP The integer amount to change HP by (positive for healing, negative for damage).
      */
     public void changeHP(int changeHP){
+        dirty = true;
+        int before = currentHP;
+        boolean dies = false;
         currentHP += changeHP;
         if (currentHP > maxHP){
             currentHP = maxHP; // Cap HP at maxHP
         } else if(currentHP < 1){
-            alive = false; // Character dies if HP drops below 1
             currentHP = 0; // Set current HP to 0 upon death
+            dies = true; // Character dies if HP drops below 1
+        }
+        if (currentHP < before && eventBus != null) {
+            eventBus.publishDamage(this, before - currentHP);
+        }
+        if (dies) {
+            die();
+        }
+    }
+
+    /**
+     * Marks the character as dead and notifies the listener, only the first time it dies.
+     */
+    private void die() {
+        if (alive) {
+            alive = false;
+            if (deathListener != null) {
+                deathListener.onDeath(this);
+            }
         }
     }
 
+    /**
+     * Checks whether the character's HP, SP or effects changed since it was last marked clean.
+     *
+     * @return `true` if the character has to be rendered again, `false` otherwise.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the character as changed, e.g. because its effects changed.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Marks the character as rendered in its current state.
+     */
+    public void markClean() {
+        dirty = false;
+    }
+
+    /**
+     * Sets the listener notified when this character dies, replacing any previous one.
+     * The party a character fights in uses it to keep track of the living without polling every character.
+     *
+     * @param deathListener The `DeathListener` to notify, or `null` for none.
+     */
+    public void setDeathListener(DeathListener deathListener) {
+        this.deathListener = deathListener;
+    }
+
+    /**
+     * Sets the bus this character publishes its damage and applied effects on.
+     *
+     * @param eventBus The `GameEventBus` of the fight, or `null` to publish nothing.
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
     /**
      * Changes the character's current SP by a specified amount.
      * SP cannot exceed `maxSP` and cannot drop below 0.
-     * If SP drops below 0, an error is printed and the program exits.
+     * Spending more SP than the character has is a broken rule; SP is left unchanged and only that game ends.
      *
      * @param changeSP The integer amount to change SP by (positive for gaining, negative for spending).
+     * @throws GameStateException If SP would drop below 0.
      */
     public void changeSP(int changeSP) {
+        if (currentSP + changeSP < 0) {
+            throw new GameStateException("SP can't go into negatives: " + getName() + " has " + currentSP + " SP, changed by " + changeSP);
+        }
+        dirty = true;
         currentSP += changeSP;
         if(currentSP > maxSP){
             currentSP = maxSP; // Cap SP at maxSP
-        } else if(currentSP < 0){
-            System.err.println("SP can't go into negatives"); // SP should not be negative
-            System.exit(505); // Exit with an error code
         }
     }
 
@@ -315,21 +325,22 @@ public class Character {
      * @param maxHP The new maximum HP value.
      */
     public void setMaxHP(int maxHP) {
+        dirty = true;
         this.maxHP = maxHP;
     }
 
     /**
      * Changes the character's maximum HP by a specified amount.
      * If `maxHP` drops to 0 or less, the character is marked as not alive
-     * and a message is printed.
+     * and its `DeathListener` is notified.
      *
      * @param change The integer amount to change maximum HP by.
      */
     public void changeMaxHP(int change){
+        dirty = true;
         maxHP += change;
         if(maxHP <= 0){
-            alive = false; // Character dies if max HP drops to 0 or less
-            System.out.println("That was stupid..."); // Debugging message
+            die(); // Character dies if max HP drops to 0 or less
         }
     }
 
@@ -340,6 +351,7 @@ public class Character {
      * @param change The integer amount to change maximum SP by.
      */
     public void changeMaxSP(int change){
+        dirty = true;
         maxSP += change;
         if(maxSP < 0){
             maxSP = 0; // Ensure max SP does not go below 0
@@ -351,22 +363,18 @@ public class Character {
      * This is useful for resetting a character's stats, for example, between battles.
      */
     public void maxOut(){
+        dirty = true;
         currentHP = maxHP;
         currentSP = maxSP;
     }
 
     /**
-     * Creates and returns a new `Character` object that is a deep copy of the current instance.
-     * This method is useful for creating independent duplicates of characters,
-     * ensuring that modifications to the copy don't affect the original template character.
+     * Creates and returns a new `Character` in the starting state of the same template.
+     * Only the small per-battle state is allocated; the template, including both abilities, is shared.
      *
-     * @return A new `Character` object with identical ID, name, max HP, max SP, and abilities.
+     * @return A new `Character` object with full HP and SP and no effects.
      */
     public Character copy(){
-        return new Character.CharacterBuilder().setID(characterID).setName(name)
-                .setMaxHP(maxHP).setMaxSP(maxSP)
-                .setAbility1(ability1.getAbilityName(), ability1.getAbilityDescription())
-                .setAbility2(ability2.getAbilityName(), ability2.getAbilityDescription())
-                .build();
+        return new Character(template);
     }
 }
\ No newline at end of file
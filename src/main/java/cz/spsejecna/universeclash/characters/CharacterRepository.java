@@ -1,41 +1,67 @@
 package cz.spsejecna.universeclash.characters;
 
+import cz.spsejecna.universeclash.AliasTable;
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.PathFinder;
+import cz.spsejecna.universeclash.RarityEnum;
+import cz.spsejecna.universeclash.abilities.Ability;
+import cz.spsejecna.universeclash.abilities.AbilityCompiler;
+import cz.spsejecna.universeclash.effects.EffectRepository;
+import cz.spsejecna.universeclash.exceptions.CatalogLoadException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
 import java.io.FileReader;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CharacterRepository {
 
-    private final HashMap<Integer, Character> characters = new HashMap<>();
+    private final HashMap<Integer, CharacterTemplate> characters = new HashMap<>();
+    private AliasTable draftTable;
 
     /**
      * Constructs a `CharacterRepository` and immediately loads all character data
-     * from the specified JSON file.
+     * from the specified JSON file, resolving effects against the shared effect catalog.
      */
     public CharacterRepository() {
-        loadCharacters();
+        this(GameData.get().getEffectRepository());
+    }
+
+    /**
+     * Constructs a `CharacterRepository` and immediately loads all character data
+     * from the specified JSON file.
+     *
+     * @param effectRepository The `EffectRepository` the abilities' effect names are resolved against.
+     */
+    public CharacterRepository(EffectRepository effectRepository) {
+        loadCharacters(new AbilityCompiler(effectRepository));
     }
 
     /**
      * Loads character data from a JSON file located at `PathFinder.charactersFilePath`.
      * It parses the JSON array, and for each character object, extracts its ID, name,
-     * maximum HP, maximum SP, and details for two abilities (name and description).
-     * A `Character` object is then built using this data and stored in the `characters` HashMap,
+     * maximum HP, maximum SP, and its two abilities. Each ability is compiled into an `Ability`
+     * with its target, SP cost and operations already bound, so using it never switches on the character's name.
+     * A `CharacterTemplate` is then built using this data and stored in the `characters` HashMap,
      * with the character's ID as the key.
-     * If any error occurs during file reading or JSON parsing, an error message is printed,
-     * and the program exits with a status code of 1.
+     * Each character may declare a `rarity` and an explicit `weight` overriding the rarity's default;
+     * the weights are turned into the `AliasTable` every draft draws from.
+     * If the file can't be read or parsed, a `CatalogLoadException` is thrown.
+     *
+     * @param abilityCompiler The `AbilityCompiler` used to build the abilities.
      */
-    private void loadCharacters(){
+    private void loadCharacters(AbilityCompiler abilityCompiler){
         JSONParser parser = new JSONParser();
 
         try {
             JSONArray a = (JSONArray) parser.parse(new FileReader(PathFinder.charactersFilePath));
+            int[] ids = new int[a.size()];
+            double[] weights = new double[a.size()];
 
             for (Object o : a) {
                 JSONObject jsonCharacter = (JSONObject) o;
@@ -44,54 +70,91 @@ public class CharacterRepository {
                 int maxHP = Math.toIntExact((long) jsonCharacter.get("HP"));
                 int maxSP = Math.toIntExact((long) jsonCharacter.get("SP"));
 
-                JSONObject jsonAbility1 = (JSONObject) jsonCharacter.get("ability1");
-                String ability1Name = (String) jsonAbility1.get("name");
-                String ability1Description = (String) jsonAbility1.get("description");
-
-                JSONObject jsonAbility2 = (JSONObject) jsonCharacter.get("ability2");
-                String ability2Name = (String) jsonAbility2.get("name");
-                String ability2Description = (String) jsonAbility2.get("description");
+                Ability ability1 = abilityCompiler.compile((JSONObject) jsonCharacter.get("ability1"));
+                Ability ability2 = abilityCompiler.compile((JSONObject) jsonCharacter.get("ability2"));
 
-                // Build the Character object using its builder pattern
-                Character character = new Character.CharacterBuilder().setID(id).setName(name)
-                        .setMaxHP(maxHP).setMaxSP(maxSP)
-                        .setAbility1(ability1Name, ability1Description)
-                        .setAbility2(ability2Name, ability2Description)
+                // Build the shared template using its builder pattern
+                CharacterTemplate character = new CharacterTemplate.CharacterTemplateBuilder().setID(id).setName(name)
+                        .setBaseHP(maxHP).setBaseSP(maxSP)
+                        .setAbility1(ability1)
+                        .setAbility2(ability2)
                         .build();
 
+                String rarityName = (String) jsonCharacter.get("rarity");
+                RarityEnum rarity = rarityName == null ? RarityEnum.COMMON : RarityEnum.valueOf(rarityName);
+                Object weight = jsonCharacter.get("weight");
+                ids[characters.size()] = id;
+                weights[characters.size()] = weight == null ? rarity.getWeight() : ((Number) weight).doubleValue();
+
                 characters.put(id, character);
             }
+            draftTable = new AliasTable(ids, weights);
         } catch (Exception e) {
-            System.err.println("Failed to load characters. Shutting down.\n" + e.getMessage());
-            System.exit(1);
+            throw new CatalogLoadException("characters", PathFinder.charactersFilePath, e);
         }
     }
 
     /**
-     * Returns a new `HashMap` containing copies of all character templates
-     * currently loaded in the repository. Each character object returned is a deep copy,
-     * ensuring that external modifications to these characters do not affect the original
-     * template characters stored in the repository.
+     * Returns a new `HashMap` containing a fresh `Character` for every template
+     * currently loaded in the repository. Each character only carries its own combat state
+     * and shares the template with every other instance of the same character.
      *
-     * @return A `HashMap` where keys are character IDs (Integer) and values are copied `Character` objects.
+     * @return A `HashMap` where keys are character IDs (Integer) and values are new `Character` objects.
      */
     public HashMap<Integer, Character> getCharacters() {
         return (HashMap<Integer, Character>) characters.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().copy()));
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new Character(e.getValue())));
+    }
+
+    /**
+     * Returns a read-only view of all loaded character templates.
+     *
+     * @return An unmodifiable `Collection` of the shared `CharacterTemplate` objects.
+     */
+    public Collection<CharacterTemplate> getTemplates() {
+        return Collections.unmodifiableCollection(characters.values());
+    }
+
+    /**
+     * Returns the IDs of all loaded characters.
+     *
+     * @return A new array holding every character ID.
+     */
+    public int[] getCharacterIds() {
+        return characters.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the weighted table the character drafts draw from.
+     *
+     * @return The shared `AliasTable` of all loaded characters.
+     */
+    public AliasTable getDraftTable() {
+        return draftTable;
+    }
+
+    /**
+     * Returns the shared template of a character without creating any combat state.
+     *
+     * @param charid The integer ID of the character.
+     * @return The `CharacterTemplate` if found, or `null` if a character with the given ID does not exist.
+     */
+    public CharacterTemplate getTemplate(int charid) {
+        return characters.get(charid);
     }
 
     /**
-     * Retrieves a copy of a `Character` object from the repository based on its ID.
-     * This method ensures that a new instance of the character is returned, rather than
-     * a direct reference to the template object. This prevents unintended modifications
-     * to the master character objects.
+     * Spawns a new `Character` from the template with the given ID.
+     * The returned character starts at full HP and SP with no effects, and it never
+     * shares its mutable state with any other character.
      *
      * @param charid The integer ID of the character to obtain.
-     * @return A copied `Character` object if found, or `null` if a character with the given ID does not exist.
+     * @return A new `Character` object if found, or `null` if a character with the given ID does not exist.
      */
     public Character obtainCharacter(int charid) {
-        if (characters.containsKey(charid)) {
-            return characters.get(charid).copy();
+        CharacterTemplate template = characters.get(charid);
+        if (template != null) {
+            return new Character(template);
         } else {
             System.out.println("Searched for a character that doesn't exist.");
             return null;
@@ -0,0 +1,181 @@
+package cz.spsejecna.universeclash.characters;
+
+import cz.spsejecna.universeclash.abilities.Ability;
+
+public final class CharacterTemplate {
+    private final int characterID;
+    private final String name;
+    private final int baseHP;
+    private final int baseSP;
+    private final Ability ability1;
+    private final Ability ability2;
+
+    /**
+     * Constructs a `CharacterTemplate` using the provided `CharacterTemplateBuilder`.
+     * Templates hold the static data of a character as loaded from the catalog and are never
+     * modified afterwards, so a single instance is shared by every `Character` spawned from it.
+     *
+     * @param builder The `CharacterTemplateBuilder` instance containing the desired properties for the template.
+     */
+    private CharacterTemplate(CharacterTemplateBuilder builder) {
+        this.characterID = builder.characterID;
+        this.name = builder.name;
+        this.baseHP = builder.baseHP;
+        this.baseSP = builder.baseSP;
+        this.ability1 = builder.ability1;
+        this.ability2 = builder.ability2;
+    }
+
+    /**
+     * A static nested builder class for constructing `CharacterTemplate` objects.
+     * This builder provides a fluent API to set the static properties of a character
+     * before the template is built.
+     */
+    public static class CharacterTemplateBuilder{
+        public int characterID;
+        public String name;
+        public int baseHP;
+        public int baseSP;
+        public Ability ability1;
+        public Ability ability2;
+
+        /**
+         * Sets the unique identifier for the character.
+         *
+         * @param id The integer ID of the character.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setID(int id){
+            this.characterID = id;
+            return this;
+        }
+
+        /**
+         * Sets the name of the character.
+         *
+         * @param name The string name of the character.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the health points every new instance of the character starts with.
+         *
+         * @param baseHP The base HP value.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setBaseHP(int baseHP) {
+            this.baseHP = baseHP;
+            return this;
+        }
+
+        /**
+         * Sets the special points every new instance of the character starts with.
+         *
+         * @param baseSP The base SP value.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setBaseSP(int baseSP) {
+            this.baseSP = baseSP;
+            return this;
+        }
+
+        /**
+         * Sets the first ability of the character.
+         *
+         * @param ability The compiled `Ability` used as the first ability.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setAbility1(Ability ability) {
+            this.ability1 = ability;
+            return this;
+        }
+
+        /**
+         * Sets the second ability of the character.
+         *
+         * @param ability The compiled `Ability` used as the second ability.
+         * @return The current `CharacterTemplateBuilder` instance for method chaining.
+         */
+        public CharacterTemplateBuilder setAbility2(Ability ability) {
+            this.ability2 = ability;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new `CharacterTemplate` with the properties set in this builder.
+         *
+         * @return A new `CharacterTemplate` instance.
+         */
+        public CharacterTemplate build(){
+            return new CharacterTemplate(this);
+        }
+    }
+
+    /**
+     * Returns the unique integer ID of the character.
+     *
+     * @return The character's ID.
+     */
+    public int getCharacterID() {
+        return characterID;
+    }
+
+    /**
+     * Returns the name of the character.
+     *
+     * @return The character's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the HP a fresh instance of this character starts with.
+     *
+     * @return The base HP.
+     */
+    public int getBaseHP() {
+        return baseHP;
+    }
+
+    /**
+     * Returns the SP a fresh instance of this character starts with.
+     *
+     * @return The base SP.
+     */
+    public int getBaseSP() {
+        return baseSP;
+    }
+
+    /**
+     * Returns the first ability of the character.
+     *
+     * @return The `Ability` object representing the character's first ability.
+     */
+    public Ability getAbility1() {
+        return ability1;
+    }
+
+    /**
+     * Returns the second ability of the character.
+     *
+     * @return The `Ability` object representing the character's second ability.
+     */
+    public Ability getAbility2() {
+        return ability2;
+    }
+
+    /**
+     * Returns a detailed string representation of the template, including its ID,
+     * name, base HP, base SP, and descriptions of both abilities.
+     *
+     * @return A comprehensive formatted string of the character's details.
+     */
+    public String fullinfo(){
+        return "\n[["+name+"]] {id:"+characterID+"}  HP: "+baseHP+"  SP: "+baseSP+ability1+ability2;
+    }
+}
@@ -0,0 +1,12 @@
+package cz.spsejecna.universeclash.characters;
+
+@FunctionalInterface
+public interface DeathListener {
+
+    /**
+     * Called exactly once, at the moment a character dies.
+     *
+     * @param ch The character that just died.
+     */
+    void onDeath(Character ch);
+}
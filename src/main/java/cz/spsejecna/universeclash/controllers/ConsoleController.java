@@ -0,0 +1,192 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.Fight;
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.InputMismatchException;
+import java.util.Objects;
+
+public class ConsoleController implements Controller {
+
+    private final InputSource sc;
+    private final PrintStream out;
+    private final Fight fight;
+
+    /**
+     * Constructs a controller asking the human player through the console.
+     */
+    public ConsoleController() {
+        this(InputSource.console());
+    }
+
+    /**
+     * Constructs a controller reading the player's decisions from the given source.
+     * Every prompt of the session goes through this single source, so no input is swallowed
+     * by a second reader buffering ahead.
+     *
+     * @param sc The `InputSource` the decisions are read from, e.g. the console or a script.
+     */
+    public ConsoleController(InputSource sc) {
+        this(sc, System.out);
+    }
+
+    /**
+     * Constructs a controller reading the player's decisions from the given source
+     * and prompting on the given stream, e.g. both bound to the player's connection.
+     *
+     * @param sc The `InputSource` the decisions are read from.
+     * @param out The `PrintStream` the options and prompts are shown on.
+     */
+    public ConsoleController(InputSource sc, PrintStream out) {
+        this.sc = sc;
+        this.out = out;
+        this.fight = new Fight(sc, out);
+    }
+
+    /**
+     * Asks the player for a basic attack or one of the character's abilities.
+     *
+     * @param ch The character whose turn it is.
+     * @return 0 for a basic attack, 1 for the first ability, 2 for the second ability.
+     */
+    @Override
+    public int chooseAction(Character ch) {
+        return fight.play(ch);
+    }
+
+    /**
+     * Asks the player for the slot number or the name of the target.
+     *
+     * @param team An `ArrayList` of `Character` objects the target is chosen from.
+     * @return The chosen `Character`.
+     */
+    @Override
+    public Character chooseTarget(ArrayList<Character> team) {
+        return fight.getTarget(team);
+    }
+
+    /**
+     * Displays the characters on offer and asks for the ID of the one to add to the team,
+     * until an ID of one of the options is entered.
+     *
+     * @param options The characters on offer.
+     * @return The ID of the chosen character.
+     */
+    @Override
+    public int chooseCharacter(ArrayList<CharacterTemplate> options) {
+        for (CharacterTemplate template : options) {
+            out.println(template.fullinfo());
+        }
+        out.print("Type the id of the character you want to add to your team.\n>id: ");
+        while (true) {
+            try {
+                int chosen = sc.nextInt();
+                for (CharacterTemplate template : options) {
+                    if (template.getCharacterID() == chosen) {
+                        return chosen;
+                    }
+                }
+                out.println("Character with that id isn't currently available");
+            } catch (Exception e) {
+                out.println("ID has to be an integer.");
+                sc.nextLine(); // Consume the invalid input to prevent infinite loop
+            }
+        }
+    }
+
+    /**
+     * Displays the cards on offer and asks for the ID of the one to take,
+     * until an ID of one of the options is entered.
+     *
+     * @param options The cards on offer.
+     * @return The ID of the chosen card.
+     */
+    @Override
+    public int chooseCard(ArrayList<Card> options) {
+        for (Card c : options) {
+            out.println(c.toString()); // Display the card details to the player
+        }
+        out.print("Type the id of the card you want.\n>id: ");
+        while (true) {
+            try {
+                int chosen = sc.nextInt();
+                for (Card c : options) {
+                    if (c.getCardId() == chosen) {
+                        return chosen;
+                    }
+                }
+                out.println("Card with that id isn't currently available");
+            } catch (Exception e) {
+                out.println("ID has to be an integer.");
+                sc.nextLine(); // Consume the invalid input to prevent infinite loop
+            }
+        }
+    }
+
+    /**
+     * Asks whether the player wants to use an item and, if so, the ID of the item,
+     * until an integer is entered.
+     *
+     * @param items The items currently in the inventory.
+     * @return The item with the entered ID, or `null` if the player declined or has no such item.
+     */
+    @Override
+    public Item chooseItem(ArrayList<Item> items) {
+        out.println("Wanna use an item?");
+        if (!Objects.equals(sc.next(), "yes")) {
+            return null;
+        }
+        out.println(items.toString());
+        out.println("Type the id of the item you wanna use.");
+        int itemId = nextId();
+        for (Item it : items) {
+            if (it.getItemId() == itemId) {
+                return it;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Displays the shop and asks for the ID of the item to buy, until an integer is entered.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The entered ID, or -1 if no item has that ID.
+     */
+    @Override
+    public int chooseShopItem(Collection<Item> stock, int coins) {
+        out.println(stock.toString());
+        out.println("Type the id of the item you want, each costs 5 coins.");
+        int chosen = nextId();
+        for (Item it : stock) {
+            if (it.getItemId() == chosen) {
+                return chosen;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads an ID, asking again until an integer is entered.
+     *
+     * @return The entered ID.
+     * @throws java.util.NoSuchElementException If the input ends before an integer is entered.
+     */
+    private int nextId() {
+        while (true) {
+            try {
+                return sc.nextInt();
+            } catch (InputMismatchException e) {
+                out.println("ID has to be an integer.");
+                sc.nextLine(); // Consume the invalid input to prevent infinite loop
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+public interface Controller {
+
+    /**
+     * Decides what a character does on its turn.
+     *
+     * @param ch The character whose turn it is.
+     * @return 0 for a basic attack, 1 for the first ability, 2 for the second ability.
+     */
+    int chooseAction(Character ch);
+
+    /**
+     * Chooses a single target out of a team, for basic attacks and abilities.
+     *
+     * @param team An `ArrayList` of `Character` objects the target is chosen from.
+     * @return The chosen `Character`, which must be a member of `team`.
+     */
+    Character chooseTarget(ArrayList<Character> team);
+
+    /**
+     * Chooses which character joins the party.
+     *
+     * @param options The characters on offer.
+     * @return The ID of the chosen character, which must be one of the options.
+     */
+    int chooseCharacter(ArrayList<CharacterTemplate> options);
+
+    /**
+     * Chooses which card is added to the collection.
+     *
+     * @param options The cards on offer.
+     * @return The ID of the chosen card, which must be one of the options.
+     */
+    int chooseCard(ArrayList<Card> options);
+
+    /**
+     * Decides whether to use an item at the end of a turn, and which one.
+     *
+     * @param items The items currently in the inventory, never empty.
+     * @return The item to use, or `null` to use none.
+     */
+    Item chooseItem(ArrayList<Item> items);
+
+    /**
+     * Decides which item to buy in the shop. Only called while the player can afford an item.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The ID of the item to buy, or -1 to buy nothing.
+     */
+    int chooseShopItem(Collection<Item> stock, int coins);
+}
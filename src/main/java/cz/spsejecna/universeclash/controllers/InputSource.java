@@ -0,0 +1,210 @@
+package cz.spsejecna.universeclash.controllers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+public class InputSource {
+
+    private final Reader in;
+    private final char[] buffer;
+    private int pos;
+    private int len;
+    private final StringBuilder token = new StringBuilder();
+    private String peeked; // a token read ahead by `hasNextInt` or a failed `nextInt`, not yet consumed
+
+    /**
+     * Constructs a source reading whitespace separated tokens from the given reader.
+     * A session should have exactly one, shared by every prompt, so nothing typed for one prompt
+     * is buffered away by another.
+     *
+     * @param in The `Reader` the input comes from.
+     */
+    public InputSource(Reader in) {
+        this(in, 1024);
+    }
+
+    private InputSource(Reader in, int bufferSize) {
+        this.in = in;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Creates a source reading what the player types into the console.
+     *
+     * @return The new `InputSource`.
+     */
+    public static InputSource console() {
+        return new InputSource(new InputStreamReader(System.in, Charset.defaultCharset()));
+    }
+
+    /**
+     * Creates a source replaying a script of decisions, one token per answer, separated by any whitespace.
+     *
+     * @param script The answers, as the player would type them.
+     * @return The new `InputSource`.
+     */
+    public static InputSource of(String script) {
+        return new InputSource(new StringReader(script), Math.max(1, Math.min(script.length(), 1024)));
+    }
+
+    /**
+     * Creates a source replaying the decisions in a script file.
+     *
+     * @param path The path of the script file.
+     * @return The new `InputSource`.
+     * @throws IOException If the file can't be read.
+     */
+    public static InputSource fromFile(Path path) throws IOException {
+        return of(Files.readString(path));
+    }
+
+    /**
+     * Checks whether another token is available, waiting for input if necessary.
+     *
+     * @return `true` if there is another token, `false` at the end of the input.
+     */
+    public boolean hasNext() {
+        return peek() != null;
+    }
+
+    /**
+     * Checks whether the next token is an integer, without consuming it.
+     *
+     * @return `true` if the next token is an integer, `false` otherwise or at the end of the input.
+     */
+    public boolean hasNextInt() {
+        String next = peek();
+        return next != null && isInt(next);
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return The token.
+     * @throws NoSuchElementException If the input has ended.
+     */
+    public String next() {
+        String next = peek();
+        if (next == null) {
+            throw new NoSuchElementException("The input has ended");
+        }
+        peeked = null;
+        return next;
+    }
+
+    /**
+     * Reads the next token as an integer. A token that isn't one is left unconsumed.
+     *
+     * @return The integer.
+     * @throws InputMismatchException If the next token isn't an integer.
+     * @throws NoSuchElementException If the input has ended.
+     */
+    public int nextInt() {
+        String next = peek();
+        if (next == null) {
+            throw new NoSuchElementException("The input has ended");
+        }
+        if (!isInt(next)) {
+            throw new InputMismatchException(next);
+        }
+        peeked = null;
+        return Integer.parseInt(next);
+    }
+
+    /**
+     * Reads the rest of the current line, including a token that was read ahead but not consumed.
+     * Used to throw away what's left of an invalid answer.
+     *
+     * @return The rest of the line without its line break.
+     * @throws NoSuchElementException If the input has ended.
+     */
+    public String nextLine() {
+        token.setLength(0);
+        if (peeked != null) {
+            token.append(peeked);
+            peeked = null;
+        } else if (!fill()) {
+            throw new NoSuchElementException("The input has ended");
+        }
+        while (fill()) {
+            char c = buffer[pos++];
+            if (c == '\n') {
+                break;
+            }
+            if (c != '\r') {
+                token.append(c);
+            }
+        }
+        return token.toString();
+    }
+
+    /**
+     * Reads the next token ahead, unless one already was.
+     * The token ends at the first whitespace, which is left unread, so `nextLine` still sees the end of its line.
+     */
+    private String peek() {
+        if (peeked != null) {
+            return peeked;
+        }
+        while (fill() && Character.isWhitespace(buffer[pos])) {
+            pos++;
+        }
+        if (!fill()) {
+            return null;
+        }
+        token.setLength(0);
+        while (fill() && !Character.isWhitespace(buffer[pos])) {
+            token.append(buffer[pos++]);
+        }
+        peeked = token.toString();
+        return peeked;
+    }
+
+    /**
+     * Makes sure at least one unread character is buffered.
+     *
+     * @return `true` if one is, `false` at the end of the input.
+     */
+    private boolean fill() {
+        if (pos < len) {
+            return true;
+        }
+        try {
+            len = in.read(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pos = 0;
+        if (len <= 0) {
+            len = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isInt(String s) {
+        int start = s.charAt(0) == '-' || s.charAt(0) == '+' ? 1 : 0;
+        if (start == s.length() || s.length() - start > 10) {
+            return false;
+        }
+        for (int i = start; i < s.length(); i++) {
+            if (s.charAt(i) < '0' || s.charAt(i) > '9') {
+                return false;
+            }
+        }
+        if (s.length() - start == 10) {
+            // Only the longest numbers can overflow
+            long value = Long.parseLong(s);
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.Fight;
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.random.RandomGenerator;
+
+public class RandomController implements Controller {
+
+    private final RandomGenerator rand;
+
+    /**
+     * Constructs a controller making every decision uniformly at random.
+     * This is how enemies play, and it lets whole games run without anybody at the keyboard.
+     *
+     * @param rand The source of randomness for all decisions.
+     */
+    public RandomController(RandomGenerator rand) {
+        this.rand = rand;
+    }
+
+    /**
+     * Picks a basic attack or one of the two abilities with equal chance.
+     *
+     * @param ch The character whose turn it is.
+     * @return 0, 1 or 2.
+     */
+    @Override
+    public int chooseAction(Character ch) {
+        return rand.nextInt(3);
+    }
+
+    /**
+     * Picks a random member of the team.
+     *
+     * @param team An `ArrayList` of `Character` objects the target is chosen from.
+     * @return A random `Character` of the team.
+     */
+    @Override
+    public Character chooseTarget(ArrayList<Character> team) {
+        return Fight.getRandomTarget(team, rand);
+    }
+
+    /**
+     * Picks a random character out of the options.
+     *
+     * @param options The characters on offer.
+     * @return The ID of a random option.
+     */
+    @Override
+    public int chooseCharacter(ArrayList<CharacterTemplate> options) {
+        return options.get(rand.nextInt(options.size())).getCharacterID();
+    }
+
+    /**
+     * Picks a random card out of the options.
+     *
+     * @param options The cards on offer.
+     * @return The ID of a random option.
+     */
+    @Override
+    public int chooseCard(ArrayList<Card> options) {
+        return options.get(rand.nextInt(options.size())).getCardId();
+    }
+
+    /**
+     * Uses a random item half of the time.
+     *
+     * @param items The items currently in the inventory.
+     * @return A random item, or `null`.
+     */
+    @Override
+    public Item chooseItem(ArrayList<Item> items) {
+        return rand.nextBoolean() ? items.get(rand.nextInt(items.size())) : null;
+    }
+
+    /**
+     * Buys a random item whenever the shop is open.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The ID of a random item.
+     */
+    @Override
+    public int chooseShopItem(Collection<Item> stock, int coins) {
+        Item[] items = stock.toArray(new Item[0]);
+        return items[rand.nextInt(items.length)].getItemId();
+    }
+}
@@ -0,0 +1,111 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+public class ScriptedController implements Controller {
+
+    private final int[] decisions;
+    private int next = 0;
+
+    /**
+     * Constructs a controller replaying a fixed list of decisions, one per call, in order.
+     * Actions are read as is (0, 1 or 2). Targets, characters, cards and items are read as
+     * indices into the list on offer, with -1 meaning no item. Shop purchases are read as item IDs,
+     * with -1 meaning nothing is bought.
+     *
+     * @param decisions The decisions to replay.
+     */
+    public ScriptedController(int... decisions) {
+        this.decisions = decisions;
+    }
+
+    private int nextDecision() {
+        if (next >= decisions.length) {
+            throw new IllegalStateException("Script ran out of decisions after " + decisions.length);
+        }
+        return decisions[next++];
+    }
+
+    /**
+     * Returns whether every scripted decision has been used up.
+     *
+     * @return `true` if no decisions are left, `false` otherwise.
+     */
+    public boolean isFinished() {
+        return next >= decisions.length;
+    }
+
+    /**
+     * Replays the next action.
+     *
+     * @param ch The character whose turn it is.
+     * @return The scripted action.
+     */
+    @Override
+    public int chooseAction(Character ch) {
+        return nextDecision();
+    }
+
+    /**
+     * Replays the next target by its position in the team.
+     *
+     * @param team An `ArrayList` of `Character` objects the target is chosen from.
+     * @return The character at the scripted index.
+     */
+    @Override
+    public Character chooseTarget(ArrayList<Character> team) {
+        return team.get(nextDecision());
+    }
+
+    /**
+     * Replays the next character pick by its position in the options.
+     *
+     * @param options The characters on offer.
+     * @return The ID of the character at the scripted index.
+     */
+    @Override
+    public int chooseCharacter(ArrayList<CharacterTemplate> options) {
+        return options.get(nextDecision()).getCharacterID();
+    }
+
+    /**
+     * Replays the next card pick by its position in the options.
+     *
+     * @param options The cards on offer.
+     * @return The ID of the card at the scripted index.
+     */
+    @Override
+    public int chooseCard(ArrayList<Card> options) {
+        return options.get(nextDecision()).getCardId();
+    }
+
+    /**
+     * Replays the next item use by its position in the inventory.
+     *
+     * @param items The items currently in the inventory.
+     * @return The item at the scripted index, or `null` for -1.
+     */
+    @Override
+    public Item chooseItem(ArrayList<Item> items) {
+        int index = nextDecision();
+        return index < 0 ? null : items.get(index);
+    }
+
+    /**
+     * Replays the next purchase.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The scripted item ID, or -1.
+     */
+    @Override
+    public int chooseShopItem(Collection<Item> stock, int coins) {
+        return nextDecision();
+    }
+}
@@ -0,0 +1,306 @@
+package cz.spsejecna.universeclash.effects;
+
+import cz.spsejecna.universeclash.GameData;
+import cz.spsejecna.universeclash.characters.Character;
+
+public class ActiveEffects {
+    private long mask; // bit n is set while the effect with id n is active
+    private final int[] expiresAt; // scheduler turn on which the effect runs out, indexed by effect id
+    private final int[] stacks; // number of stacks of each active effect, capped by its stacking policy
+    private EffectScheduler scheduler;
+    private final Character owner;
+    private final EffectBehavior[] behaviors;
+    private final long applyMask;
+    private final long tickMask;
+    private final long expireMask;
+    private final long modifierMask;
+
+    // Modifier aggregates, recomputed only when the set of active effects changes
+    private int damageBonus;
+    private int damageReduction;
+    private boolean immune;
+    private boolean healBlocked;
+
+    /**
+     * Constructs an empty effect state able to hold every effect of the loaded catalog.
+     *
+     * @param owner The character having these effects, which their behaviors act on.
+     * @param effectRepository The `EffectRepository` holding the compiled behavior of every effect.
+     */
+    public ActiveEffects(Character owner, EffectRepository effectRepository) {
+        this.owner = owner;
+        this.expiresAt = new int[effectRepository.getEffectCount()];
+        this.stacks = new int[effectRepository.getEffectCount()];
+        this.behaviors = effectRepository.getBehaviors();
+        this.applyMask = effectRepository.getApplyMask();
+        this.tickMask = effectRepository.getTickMask();
+        this.expireMask = effectRepository.getExpireMask();
+        this.modifierMask = effectRepository.getModifierMask();
+    }
+
+    /**
+     * Binds this effect state to the scheduler whose clock drives its durations.
+     * Without a scheduler, effects never run out on their own.
+     *
+     * @param scheduler The battle's `EffectScheduler`.
+     */
+    public void setScheduler(EffectScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    private int now() {
+        return scheduler == null ? 0 : scheduler.now();
+    }
+
+    /**
+     * Checks whether the effect with the given ID is currently active.
+     *
+     * @param id The ID of the effect.
+     * @return `true` if the effect is active, `false` otherwise.
+     */
+    public boolean has(int id) {
+        return (mask & (1L << id)) != 0;
+    }
+
+    /**
+     * Checks whether at least one effect from the given mask is currently active.
+     *
+     * @param effectMask A bitmask of effect IDs.
+     * @return `true` if any of the effects is active, `false` otherwise.
+     */
+    public boolean hasAny(long effectMask) {
+        return (mask & effectMask) != 0;
+    }
+
+    /**
+     * Activates an effect for the given duration and schedules its expiry. This is the only way effects
+     * are applied. Reapplying an effect that is already active never adds a second entry; what it does
+     * instead is decided by the effect's `StackingPolicyEnum`:
+     * `REFRESH` keeps the longer of the two durations, `EXTEND` adds the new duration to the remaining one,
+     * `STACK` refreshes like `REFRESH` and adds a stack up to the effect's cap, and `IGNORE` changes nothing.
+     * Either way the effect's on-apply actions run afterwards.
+     *
+     * @param id The ID of the effect.
+     * @param duration The number of turns the effect should last for.
+     */
+    public void add(int id, int duration) {
+        int expiry = now() + duration;
+        EffectBehavior behavior = behaviors[id];
+        if (!has(id)) {
+            setExpiry(id, expiry);
+            stacks[id] = 1;
+            mask |= 1L << id;
+            updateModifiers();
+        } else {
+            switch (behavior.getStacking()) {
+                case REFRESH -> {
+                    if (expiresAt[id] < expiry) {
+                        setExpiry(id, expiry);
+                    }
+                }
+                case EXTEND -> setExpiry(id, expiresAt[id] + duration);
+                case STACK -> {
+                    if (expiresAt[id] < expiry) {
+                        setExpiry(id, expiry);
+                    }
+                    if (stacks[id] < behavior.getMaxStacks()) {
+                        stacks[id]++;
+                        updateModifiers();
+                    }
+                }
+                case IGNORE -> {
+                }
+            }
+        }
+        if ((applyMask & 1L << id) != 0) {
+            behavior.onApply(owner);
+        }
+    }
+
+    private void setExpiry(int id, int expiry) {
+        expiresAt[id] = expiry;
+        if (scheduler != null) {
+            scheduler.schedule(this, id, expiry);
+        }
+    }
+
+    /**
+     * Returns the number of stacks of an effect.
+     *
+     * @param id The ID of the effect.
+     * @return The number of stacks, or 0 if the effect isn't active.
+     */
+    public int getStacks(int id) {
+        return has(id) ? stacks[id] : 0;
+    }
+
+    /**
+     * Runs the per-turn actions of the active effects, in the order of their IDs and once per stack.
+     * Only the effects that have any are visited; an effect removed by an earlier one doesn't tick.
+     */
+    public void tick() {
+        for (long due = mask & tickMask; due != 0; due &= due - 1) {
+            int id = Long.numberOfTrailingZeros(due);
+            for (int i = 0; i < stacks[id] && has(id); i++) {
+                behaviors[id].tick(owner);
+            }
+        }
+    }
+
+    /**
+     * Called by the scheduler when an expiry entry comes due. The effect is only removed if it
+     * still expires on that turn, i.e. it hasn't been removed or refreshed since the entry was made.
+     * Its on-expire actions run after it has been removed.
+     *
+     * @param id The ID of the effect.
+     * @param turn The turn the entry was scheduled for.
+     */
+    void expire(int id, int turn) {
+        if (has(id) && expiresAt[id] == turn) {
+            remove(id);
+            if ((expireMask & 1L << id) != 0) {
+                behaviors[id].onExpire(owner);
+            }
+        }
+    }
+
+    /**
+     * Deactivates the effect with the given ID, if it is active.
+     *
+     * @param id The ID of the effect.
+     */
+    public void remove(int id) {
+        mask &= ~(1L << id);
+        updateModifiers();
+    }
+
+    /**
+     * Deactivates every effect contained in the given mask.
+     *
+     * @param effectMask A bitmask of effect IDs to remove.
+     */
+    public void removeAll(long effectMask) {
+        mask &= ~effectMask;
+        updateModifiers();
+    }
+
+    /**
+     * Deactivates every effect.
+     */
+    public void clear() {
+        mask = 0;
+        updateModifiers();
+    }
+
+    /**
+     * Returns the remaining duration of an active effect.
+     *
+     * @param id The ID of the effect.
+     * @return The remaining duration, or 0 if the effect isn't active.
+     */
+    public int getDuration(int id) {
+        return has(id) ? expiresAt[id] - now() : 0;
+    }
+
+    /**
+     * Returns the bitmask of all active effect IDs.
+     *
+     * @return The current effect mask.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the number of active effects.
+     *
+     * @return The number of bits set in the effect mask.
+     */
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Returns the extra damage dealt by the character, granted by effects like "Strong".
+     *
+     * @return The flat bonus added to every outgoing hit.
+     */
+    public int getDamageBonus() {
+        return damageBonus;
+    }
+
+    /**
+     * Returns the damage taken off every incoming hit, granted by effects like "Tough".
+     *
+     * @return The flat reduction applied to every incoming hit.
+     */
+    public int getDamageReduction() {
+        return damageReduction;
+    }
+
+    /**
+     * Checks whether the character currently takes no damage at all, granted by effects like "Nullify".
+     *
+     * @return `true` if incoming damage is ignored, `false` otherwise.
+     */
+    public boolean isImmune() {
+        return immune;
+    }
+
+    /**
+     * Checks whether the character currently can't be healed, caused by effects like "Bleed".
+     *
+     * @return `true` if healing is blocked, `false` otherwise.
+     */
+    public boolean isHealBlocked() {
+        return healBlocked;
+    }
+
+    /**
+     * Recomputes the modifier aggregates from the declared modifiers of the active effects,
+     * counting the damage modifiers once per stack.
+     * Called whenever an effect is added, removed or expires, so reading a modifier is just a field access.
+     * The owner is marked dirty, since its effects are part of how it is rendered.
+     */
+    private void updateModifiers() {
+        owner.markDirty();
+        damageBonus = 0;
+        damageReduction = 0;
+        immune = false;
+        healBlocked = false;
+        for (long m = mask & modifierMask; m != 0; m &= m - 1) {
+            int id = Long.numberOfTrailingZeros(m);
+            EffectBehavior behavior = behaviors[id];
+            damageBonus += behavior.getDamageBonus() * stacks[id];
+            damageReduction += behavior.getDamageReduction() * stacks[id];
+            immune |= behavior.isImmune();
+            healBlocked |= behavior.isHealBlock();
+        }
+    }
+
+    /**
+     * Returns a string representation of the active effects in the same format
+     * the effect list used to print, e.g. `[Fire{2} , Stun{1} ]`. Effects with more than one stack
+     * show the number of stacks after their name, e.g. `Stacker x2{3} `.
+     *
+     * @return A formatted string listing the name and remaining duration of each active effect.
+     */
+    @Override
+    public String toString() {
+        EffectRepository effectRepository = GameData.get().getEffectRepository();
+        int now = now();
+        StringBuilder sb = new StringBuilder("[");
+        for (long m = mask; m != 0; m &= m - 1) {
+            int id = Long.numberOfTrailingZeros(m);
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(effectRepository.getTemplate(id).getName());
+            if (stacks[id] > 1) {
+                sb.append(" x").append(stacks[id]);
+            }
+            sb.append('{').append(expiresAt[id] - now).append("} ");
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -1,6 +1,17 @@
 package cz.spsejecna.universeclash.effects;
 
 public class Effect {
+    // Effect IDs as assigned in effects.json, used wherever the engine checks for a specific effect
+    public static final int FIRE = 0;
+    public static final int POISON = 1;
+    public static final int STUN = 2;
+    public static final int BLEED = 3;
+    public static final int PURE = 4;
+    public static final int DODGY = 5;
+    public static final int STRONG = 6;
+    public static final int TOUGH = 7;
+    public static final int NULLIFY = 8;
+
     private final int id;
     private final String name;
     private int duration;
@@ -0,0 +1,14 @@
+package cz.spsejecna.universeclash.effects;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+@FunctionalInterface
+public interface EffectAction {
+
+    /**
+     * Runs one step of an effect's behavior on the character having the effect.
+     *
+     * @param ch The character the effect is active on.
+     */
+    void apply(Character ch);
+}
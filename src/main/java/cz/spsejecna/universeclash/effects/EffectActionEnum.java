@@ -0,0 +1,9 @@
+package cz.spsejecna.universeclash.effects;
+
+public enum EffectActionEnum {
+
+    LOSE_HP,
+    HEAL,
+    REMOVE_TYPE
+
+}
@@ -0,0 +1,279 @@
+package cz.spsejecna.universeclash.effects;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.ArrayList;
+
+public final class EffectBehavior {
+    private static final EffectAction[] NO_ACTIONS = new EffectAction[0];
+
+    private final EffectAction[] onApply;
+    private final EffectAction[] tick;
+    private final EffectAction[] onExpire;
+    private final int damageBonus;
+    private final int damageReduction;
+    private final boolean immune;
+    private final boolean healBlock;
+    private final StackingPolicyEnum stacking;
+    private final int maxStacks;
+
+    /**
+     * Constructs an `EffectBehavior` using the provided `EffectBehaviorBuilder`.
+     * Behaviors are compiled once when the effect catalog is loaded and shared by every character.
+     *
+     * @param builder The `EffectBehaviorBuilder` instance containing the desired behavior.
+     */
+    private EffectBehavior(EffectBehaviorBuilder builder) {
+        this.onApply = builder.onApply.toArray(NO_ACTIONS);
+        this.tick = builder.tick.toArray(NO_ACTIONS);
+        this.onExpire = builder.onExpire.toArray(NO_ACTIONS);
+        this.damageBonus = builder.damageBonus;
+        this.damageReduction = builder.damageReduction;
+        this.immune = builder.immune;
+        this.healBlock = builder.healBlock;
+        this.stacking = builder.stacking;
+        this.maxStacks = builder.maxStacks;
+    }
+
+    /**
+     * A static nested builder class for constructing `EffectBehavior` objects.
+     * Actions of the same kind run in the order they were added.
+     */
+    public static class EffectBehaviorBuilder {
+        public final ArrayList<EffectAction> onApply = new ArrayList<>();
+        public final ArrayList<EffectAction> tick = new ArrayList<>();
+        public final ArrayList<EffectAction> onExpire = new ArrayList<>();
+        public int damageBonus;
+        public int damageReduction;
+        public boolean immune;
+        public boolean healBlock;
+        public StackingPolicyEnum stacking = StackingPolicyEnum.REFRESH;
+        public int maxStacks = 1;
+
+        /**
+         * Adds an action run whenever the effect is applied.
+         *
+         * @param action The `EffectAction` to run.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder addOnApply(EffectAction action) {
+            onApply.add(action);
+            return this;
+        }
+
+        /**
+         * Adds an action run at the end of every turn the effect is active.
+         *
+         * @param action The `EffectAction` to run.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder addTick(EffectAction action) {
+            tick.add(action);
+            return this;
+        }
+
+        /**
+         * Adds an action run when the effect runs out, but not when it is removed early.
+         *
+         * @param action The `EffectAction` to run.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder addOnExpire(EffectAction action) {
+            onExpire.add(action);
+            return this;
+        }
+
+        /**
+         * Sets the damage added to every hit of a character with the effect.
+         *
+         * @param damageBonus The flat bonus.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder setDamageBonus(int damageBonus) {
+            this.damageBonus = damageBonus;
+            return this;
+        }
+
+        /**
+         * Sets the damage taken off every hit a character with the effect receives.
+         *
+         * @param damageReduction The flat reduction.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder setDamageReduction(int damageReduction) {
+            this.damageReduction = damageReduction;
+            return this;
+        }
+
+        /**
+         * Sets whether a character with the effect ignores all hits.
+         *
+         * @param immune `true` to ignore hits.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder setImmune(boolean immune) {
+            this.immune = immune;
+            return this;
+        }
+
+        /**
+         * Sets whether a character with the effect can't be healed.
+         *
+         * @param healBlock `true` to block healing.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         */
+        public EffectBehaviorBuilder setHealBlock(boolean healBlock) {
+            this.healBlock = healBlock;
+            return this;
+        }
+
+        /**
+         * Sets what reapplying the effect while it is active does. Defaults to `REFRESH`.
+         *
+         * @param stacking The `StackingPolicyEnum` of the effect.
+         * @param maxStacks The most stacks the effect can have, only used by `STACK`.
+         * @return The current `EffectBehaviorBuilder` instance for method chaining.
+         * @throws IllegalArgumentException If `maxStacks` is less than 1.
+         */
+        public EffectBehaviorBuilder setStacking(StackingPolicyEnum stacking, int maxStacks) {
+            if (maxStacks < 1) {
+                throw new IllegalArgumentException("An effect needs room for at least one stack, got " + maxStacks);
+            }
+            this.stacking = stacking;
+            this.maxStacks = stacking == StackingPolicyEnum.STACK ? maxStacks : 1;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new `EffectBehavior` with the behavior set in this builder.
+         *
+         * @return A new `EffectBehavior` instance.
+         */
+        public EffectBehavior build() {
+            return new EffectBehavior(this);
+        }
+    }
+
+    /**
+     * Runs the actions of the effect being applied.
+     *
+     * @param ch The character the effect was applied to.
+     */
+    public void onApply(Character ch) {
+        run(onApply, ch);
+    }
+
+    /**
+     * Runs the per-turn actions of the effect.
+     *
+     * @param ch The character the effect is active on.
+     */
+    public void tick(Character ch) {
+        run(tick, ch);
+    }
+
+    /**
+     * Runs the actions of the effect running out.
+     *
+     * @param ch The character the effect ran out on.
+     */
+    public void onExpire(Character ch) {
+        run(onExpire, ch);
+    }
+
+    private static void run(EffectAction[] actions, Character ch) {
+        for (EffectAction action : actions) {
+            action.apply(ch);
+        }
+    }
+
+    /**
+     * Checks whether the effect does anything when applied.
+     *
+     * @return `true` if there is at least one on-apply action.
+     */
+    public boolean hasOnApply() {
+        return onApply.length > 0;
+    }
+
+    /**
+     * Checks whether the effect does anything every turn.
+     *
+     * @return `true` if there is at least one tick action.
+     */
+    public boolean hasTick() {
+        return tick.length > 0;
+    }
+
+    /**
+     * Checks whether the effect does anything when it runs out.
+     *
+     * @return `true` if there is at least one on-expire action.
+     */
+    public boolean hasOnExpire() {
+        return onExpire.length > 0;
+    }
+
+    /**
+     * Checks whether the effect changes how its character deals, takes or heals damage.
+     *
+     * @return `true` if any modifier is set.
+     */
+    public boolean hasModifiers() {
+        return damageBonus != 0 || damageReduction != 0 || immune || healBlock;
+    }
+
+    /**
+     * Returns the damage added to every hit of a character with the effect.
+     *
+     * @return The flat bonus.
+     */
+    public int getDamageBonus() {
+        return damageBonus;
+    }
+
+    /**
+     * Returns the damage taken off every hit a character with the effect receives.
+     *
+     * @return The flat reduction.
+     */
+    public int getDamageReduction() {
+        return damageReduction;
+    }
+
+    /**
+     * Checks whether a character with the effect ignores all hits.
+     *
+     * @return `true` if hits are ignored.
+     */
+    public boolean isImmune() {
+        return immune;
+    }
+
+    /**
+     * Returns what reapplying the effect while it is active does.
+     *
+     * @return The `StackingPolicyEnum` of the effect.
+     */
+    public StackingPolicyEnum getStacking() {
+        return stacking;
+    }
+
+    /**
+     * Returns the most stacks the effect can have at once.
+     *
+     * @return The stack cap, 1 unless the effect stacks.
+     */
+    public int getMaxStacks() {
+        return maxStacks;
+    }
+
+    /**
+     * Checks whether a character with the effect can't be healed.
+     *
+     * @return `true` if healing is blocked.
+     */
+    public boolean isHealBlock() {
+        return healBlock;
+    }
+}
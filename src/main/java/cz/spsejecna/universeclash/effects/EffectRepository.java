@@ -4,35 +4,65 @@ import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
 import java.io.FileReader;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 import cz.spsejecna.universeclash.PathFinder;
+import cz.spsejecna.universeclash.exceptions.CatalogLoadException;
 
-public class EffectRepository {
+public final class EffectRepository {
+
+    // Effect ids are used as bit positions in ActiveEffects, so at most 64 effects fit into a mask
+    public static final int MAX_EFFECTS = Long.SIZE;
 
     private final HashMap<String, Effect> effects = new HashMap<>();
+    private final EnumMap<EffectTypeEnum, Long> typeMasks = new EnumMap<>(EffectTypeEnum.class);
+    private Effect[] effectsById = new Effect[0];
+    private EffectBehavior[] behaviorsById = new EffectBehavior[0];
+    // Masks of the effects having each kind of behavior, so effects without it are skipped with one AND
+    private long applyMask = 0;
+    private long tickMask = 0;
+    private long expireMask = 0;
+    private long modifierMask = 0;
 
     /**
      * Constructs an `EffectRepository` and automatically loads all effect data
      * from the configured JSON file.
      */
     public EffectRepository() {
-        loadEffects();
+        this(PathFinder.effectsFilePath);
+    }
+
+    /**
+     * Constructs an `EffectRepository` loading all effect data from the given JSON file,
+     * e.g. a catalog declared only for a test.
+     *
+     * @param path The path of the effects catalog.
+     */
+    public EffectRepository(String path) {
+        loadEffects(path);
     }
 
     /**
-     * Loads effect data from a JSON file specified by `PathFinder.effectsFilePath`.
+     * Loads effect data from the given JSON file, `PathFinder.effectsFilePath` unless told otherwise.
      * It parses the JSON array and for each effect object, extracts its ID, name, and type.
      * A new `Effect` object is then built with these properties and stored in the `effects` HashMap,
      * using the effect's name as the key. The duration is initially set to -1, implying it's a template.
-     * If there's an error during file reading or parsing, it prints an error message and exits the program.
+     * The same templates are indexed by ID, and a bitmask of the IDs belonging to each `EffectTypeEnum` is built
+     * so that whole categories of effects can be matched against an `ActiveEffects` mask at once.
+     * Finally the behaviors each effect declares (`onApply`, `tick`, `onExpire` and `modifiers`)
+     * are compiled into an `EffectBehavior` per ID.
+     * If the file can't be read or parsed, a `CatalogLoadException` is thrown.
+     *
+     * @param path The path of the effects catalog.
      */
-    private void loadEffects(){
+    private void loadEffects(String path){
         JSONParser parser = new JSONParser();
 
         try {
-            JSONArray a = (JSONArray) parser.parse(new FileReader(PathFinder.effectsFilePath));
+            JSONArray a = (JSONArray) parser.parse(new FileReader(path));
+            HashMap<Integer, JSONObject> declarations = new HashMap<>();
 
             for (Object o : a) {
                 JSONObject jsonEffect = (JSONObject) o;
@@ -43,12 +73,124 @@ public class EffectRepository {
 
                 Effect effect = new Effect.EffectBuilder().setId(id).setName(name).setDuration(duration).setType(type).build();
 
+                if (id < 0 || id >= MAX_EFFECTS) {
+                    throw new IllegalStateException("Effect id out of range: " + id);
+                }
                 effects.put(name, effect);
+                declarations.put(id, jsonEffect);
+            }
+
+            int maxId = -1;
+            for (Effect effect : effects.values()) {
+                maxId = Math.max(maxId, effect.getId());
+            }
+            effectsById = new Effect[maxId + 1];
+            for (EffectTypeEnum type : EffectTypeEnum.values()) {
+                typeMasks.put(type, 0L);
+            }
+            for (Effect effect : effects.values()) {
+                effectsById[effect.getId()] = effect;
+                typeMasks.put(effect.getType(), typeMasks.get(effect.getType()) | 1L << effect.getId());
+            }
+
+            // Behaviors go last, as they may refer to the type masks
+            behaviorsById = new EffectBehavior[maxId + 1];
+            for (int id = 0; id <= maxId; id++) {
+                JSONObject declaration = declarations.get(id);
+                EffectBehavior behavior = declaration == null
+                        ? new EffectBehavior.EffectBehaviorBuilder().build() : compileBehavior(declaration);
+                behaviorsById[id] = behavior;
+                long bit = 1L << id;
+                applyMask |= behavior.hasOnApply() ? bit : 0;
+                tickMask |= behavior.hasTick() ? bit : 0;
+                expireMask |= behavior.hasOnExpire() ? bit : 0;
+                modifierMask |= behavior.hasModifiers() ? bit : 0;
             }
         } catch (Exception e) {
-            System.err.println("Failed to load effects. Shutting down.\n" + e.getMessage());
-            System.exit(1);
+            throw new CatalogLoadException("effects", path, e);
+        }
+    }
+
+    /**
+     * Compiles the behaviors an effect declares.
+     * `onApply`, `tick` and `onExpire` are lists of actions, each with an `action` out of `EffectActionEnum`
+     * and its parameters; `modifiers` may set `damageBonus`, `damageReduction`, `immune` and `healBlock`.
+     * `stacking` names the `StackingPolicyEnum` used when the effect is reapplied, with `maxStacks` capping `STACK`.
+     *
+     * @param json The JSON object of the effect.
+     * @return The compiled `EffectBehavior`.
+     * @throws IllegalArgumentException If an action or effect type is unknown.
+     */
+    private EffectBehavior compileBehavior(JSONObject json) {
+        EffectBehavior.EffectBehaviorBuilder builder = new EffectBehavior.EffectBehaviorBuilder();
+        for (EffectAction action : compileActions((JSONArray) json.get("onApply"))) {
+            builder.addOnApply(action);
+        }
+        for (EffectAction action : compileActions((JSONArray) json.get("tick"))) {
+            builder.addTick(action);
         }
+        for (EffectAction action : compileActions((JSONArray) json.get("onExpire"))) {
+            builder.addOnExpire(action);
+        }
+        String stacking = (String) json.get("stacking");
+        if (stacking != null) {
+            builder.setStacking(StackingPolicyEnum.valueOf(stacking), getInt(json, "maxStacks", 1));
+        }
+        JSONObject modifiers = (JSONObject) json.get("modifiers");
+        if (modifiers != null) {
+            builder.setDamageBonus(getInt(modifiers, "damageBonus", 0))
+                    .setDamageReduction(getInt(modifiers, "damageReduction", 0))
+                    .setImmune(Boolean.TRUE.equals(modifiers.get("immune")))
+                    .setHealBlock(Boolean.TRUE.equals(modifiers.get("healBlock")));
+        }
+        return builder.build();
+    }
+
+    private EffectAction[] compileActions(JSONArray jsonActions) {
+        if (jsonActions == null) {
+            return new EffectAction[0];
+        }
+        EffectAction[] actions = new EffectAction[jsonActions.size()];
+        for (int i = 0; i < actions.length; i++) {
+            actions[i] = compileAction((JSONObject) jsonActions.get(i));
+        }
+        return actions;
+    }
+
+    private EffectAction compileAction(JSONObject json) {
+        EffectActionEnum action = EffectActionEnum.valueOf((String) json.get("action"));
+        return switch (action) {
+            case LOSE_HP -> {
+                int amount = getInt(json, "amount", 1);
+                if (Boolean.TRUE.equals(json.get("nonLethal"))) {
+                    // Never takes the last HP, e.g. "Poison"
+                    yield ch -> {
+                        int n = Math.min(amount, ch.getCurrentHP() - 1);
+                        if (n > 0) {
+                            ch.changeHP(-n);
+                        }
+                    };
+                }
+                yield ch -> ch.changeHP(-amount);
+            }
+            case HEAL -> {
+                int amount = getInt(json, "amount", 1);
+                yield ch -> {
+                    if (!ch.getEffects().isHealBlocked()) {
+                        ch.changeHP(amount);
+                    }
+                };
+            }
+            case REMOVE_TYPE -> {
+                long mask = getTypeMask(EffectTypeEnum.valueOf((String) json.get("effectType")));
+                yield ch -> ch.getEffects().removeAll(mask);
+            }
+        };
+    }
+
+    private static int getInt(JSONObject json, String key, int defaultValue) {
+        Object value = json.get(key);
+        return value == null ? defaultValue : Math.toIntExact((long) value);
     }
 
     /**
@@ -80,4 +222,96 @@ public class EffectRepository {
             return null;
         }
     }
+
+    /**
+     * Returns the number of effect slots needed to index every loaded effect by its ID.
+     *
+     * @return The highest effect ID plus one.
+     */
+    public int getEffectCount() {
+        return effectsById.length;
+    }
+
+    /**
+     * Returns the template effect with the given ID without copying it.
+     * Templates must not be modified; they are only meant for reading the name and type.
+     *
+     * @param id The integer ID of the effect.
+     * @return The template `Effect`, or `null` if no effect has that ID.
+     */
+    public Effect getTemplate(int id) {
+        return id >= 0 && id < effectsById.length ? effectsById[id] : null;
+    }
+
+    /**
+     * Returns the compiled behaviors of all effects, indexed by effect ID.
+     * The array is shared and must not be modified.
+     *
+     * @return The `EffectBehavior` of every effect ID.
+     */
+    public EffectBehavior[] getBehaviors() {
+        return behaviorsById;
+    }
+
+    /**
+     * Returns the mask of the effects doing something when applied.
+     *
+     * @return The bitmask of effect IDs with on-apply actions.
+     */
+    public long getApplyMask() {
+        return applyMask;
+    }
+
+    /**
+     * Returns the mask of the effects doing something every turn.
+     *
+     * @return The bitmask of effect IDs with tick actions.
+     */
+    public long getTickMask() {
+        return tickMask;
+    }
+
+    /**
+     * Returns the mask of the effects doing something when they run out.
+     *
+     * @return The bitmask of effect IDs with on-expire actions.
+     */
+    public long getExpireMask() {
+        return expireMask;
+    }
+
+    /**
+     * Returns the mask of the effects modifying damage or healing.
+     *
+     * @return The bitmask of effect IDs with modifiers.
+     */
+    public long getModifierMask() {
+        return modifierMask;
+    }
+
+    /**
+     * Resolves the name of an effect to its ID. Meant for catalogs referring to effects by name,
+     * which should be resolved once while loading rather than on every use.
+     *
+     * @param effectname The string name of the effect.
+     * @return The ID of the effect.
+     * @throws IllegalArgumentException If no effect has that name.
+     */
+    public int getEffectId(String effectname) {
+        Effect effect = effects.get(effectname);
+        if (effect == null) {
+            throw new IllegalArgumentException("Unknown effect: " + effectname);
+        }
+        return effect.getId();
+    }
+
+    /**
+     * Returns a bitmask with one bit set for the ID of every effect of the given type.
+     *
+     * @param type The `EffectTypeEnum` to build the mask for.
+     * @return The mask of all effect IDs of that type.
+     */
+    public long getTypeMask(EffectTypeEnum type) {
+        return typeMasks.getOrDefault(type, 0L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package cz.spsejecna.universeclash.effects;
+
+import java.util.Arrays;
+
+public class EffectScheduler {
+    // Number of turn buckets in the wheel. Expiries further away than this wrap around
+    // and simply stay in their bucket until the clock reaches them.
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private int now = 0;
+
+    /**
+     * Constructs a timing wheel with its clock at turn 0.
+     */
+    public EffectScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Returns the current turn of the scheduler's clock.
+     *
+     * @return The number of times the clock has been advanced.
+     */
+    public int now() {
+        return now;
+    }
+
+    /**
+     * Schedules the expiry of an effect. The entry is only acted upon if, once its turn comes,
+     * the effect still expires on that exact turn, so refreshed or removed effects need no cancelling.
+     *
+     * @param owner The `ActiveEffects` holding the effect.
+     * @param effectId The ID of the effect.
+     * @param expiresAt The turn on which the effect runs out.
+     */
+    void schedule(ActiveEffects owner, int effectId, int expiresAt) {
+        wheel[expiresAt & WHEEL_MASK].add(owner, effectId, expiresAt);
+    }
+
+    /**
+     * Advances the clock by one turn and removes every effect that runs out on the new turn.
+     * Only the entries of a single bucket are visited, no matter how many effects are active.
+     */
+    public void advance() {
+        now++;
+        wheel[now & WHEEL_MASK].expire(now);
+    }
+
+    /**
+     * A single slot of the wheel, storing its entries in parallel arrays
+     * so that scheduling an expiry doesn't allocate once the arrays have grown.
+     */
+    private static class Bucket {
+        private ActiveEffects[] owners = new ActiveEffects[8];
+        private int[] effectIds = new int[8];
+        private int[] turns = new int[8];
+        private int size = 0;
+
+        private void add(ActiveEffects owner, int effectId, int turn) {
+            if (size == owners.length) {
+                owners = Arrays.copyOf(owners, size * 2);
+                effectIds = Arrays.copyOf(effectIds, size * 2);
+                turns = Arrays.copyOf(turns, size * 2);
+            }
+            owners[size] = owner;
+            effectIds[size] = effectId;
+            turns[size] = turn;
+            size++;
+        }
+
+        private void expire(int now) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (turns[i] > now) {
+                    // Belongs to a later lap of the wheel
+                    owners[kept] = owners[i];
+                    effectIds[kept] = effectIds[i];
+                    turns[kept] = turns[i];
+                    kept++;
+                } else {
+                    owners[i].expire(effectIds[i], turns[i]);
+                }
+            }
+            for (int i = kept; i < size; i++) {
+                owners[i] = null;
+            }
+            size = kept;
+        }
+    }
+}
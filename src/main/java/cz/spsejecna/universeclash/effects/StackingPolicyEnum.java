@@ -0,0 +1,10 @@
+package cz.spsejecna.universeclash.effects;
+
+public enum StackingPolicyEnum {
+
+    REFRESH,
+    EXTEND,
+    STACK,
+    IGNORE
+
+}
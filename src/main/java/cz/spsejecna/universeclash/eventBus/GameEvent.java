@@ -0,0 +1,86 @@
+package cz.spsejecna.universeclash.eventBus;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+public class GameEvent {
+    private GameEventTypeEnum type;
+    private Character character;
+    private boolean ally;
+    private int amount;
+    private int effectId;
+    private int number;
+
+    /**
+     * Constructs an empty event. Events are only created by the `GameEventBus`, which refills
+     * the same few instances for every event it publishes.
+     */
+    GameEvent() {
+    }
+
+    /**
+     * Overwrites every field of the event, so nothing from a previous event leaks into the next one.
+     */
+    void set(GameEventTypeEnum type, Character character, boolean ally, int amount, int effectId, int number) {
+        this.type = type;
+        this.character = character;
+        this.ally = ally;
+        this.amount = amount;
+        this.effectId = effectId;
+        this.number = number;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @return The `GameEventTypeEnum` of the event.
+     */
+    public GameEventTypeEnum getType() {
+        return type;
+    }
+
+    /**
+     * Returns the character the event happened to: the damaged or dead character,
+     * or the one the effect was applied to.
+     *
+     * @return The `Character`, or `null` for turn and battle events.
+     */
+    public Character getCharacter() {
+        return character;
+    }
+
+    /**
+     * Tells the side of a dead character.
+     *
+     * @return `true` if the character belonged to the player's party, `false` if it was an enemy.
+     */
+    public boolean isAlly() {
+        return ally;
+    }
+
+    /**
+     * Returns the damage taken, or the duration of an applied effect.
+     *
+     * @return The amount, 0 if the event has none.
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns the ID of the applied effect.
+     *
+     * @return The effect ID, -1 if the event isn't about an effect.
+     */
+    public int getEffectId() {
+        return effectId;
+    }
+
+    /**
+     * Returns the number of the turn that ended, or of the battle that starts.
+     *
+     * @return The turn or battle number, 0 for the other events.
+     */
+    public int getNumber() {
+        return number;
+    }
+}
@@ -0,0 +1,118 @@
+package cz.spsejecna.universeclash.eventBus;
+
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.Arrays;
+
+public class GameEventBus {
+
+    private static final GameEventTypeEnum[] TYPES = GameEventTypeEnum.values();
+
+    // Subscribers indexed by event type, so publishing never looks anything up or filters
+    private final GameEventListener[][] listeners = new GameEventListener[TYPES.length][4];
+    private final int[] counts = new int[TYPES.length];
+    // One reusable event per nesting level, as listeners may cause further events while handling one
+    private GameEvent[] pool = new GameEvent[0];
+    private int depth = 0;
+
+    /**
+     * Subscribes a listener to every following event of the given type.
+     * Listeners of the same type are called in the order they subscribed.
+     *
+     * @param type The `GameEventTypeEnum` to listen to.
+     * @param listener The `GameEventListener` to call.
+     */
+    public void subscribe(GameEventTypeEnum type, GameEventListener listener) {
+        int t = type.ordinal();
+        if (counts[t] == listeners[t].length) {
+            listeners[t] = Arrays.copyOf(listeners[t], counts[t] * 2);
+        }
+        listeners[t][counts[t]++] = listener;
+    }
+
+    /**
+     * Checks whether anybody listens to the given type of event.
+     *
+     * @param type The `GameEventTypeEnum` to check.
+     * @return `true` if at least one listener is subscribed, `false` otherwise.
+     */
+    public boolean hasSubscribers(GameEventTypeEnum type) {
+        return counts[type.ordinal()] > 0;
+    }
+
+    /**
+     * Publishes that a character lost HP.
+     *
+     * @param target The damaged character.
+     * @param amount The HP it lost.
+     */
+    public void publishDamage(Character target, int amount) {
+        publish(GameEventTypeEnum.DAMAGE, target, false, amount, -1, 0);
+    }
+
+    /**
+     * Publishes that a character died.
+     *
+     * @param ch The dead character.
+     * @param ally `true` if it was in the player's party, `false` if it was an enemy.
+     */
+    public void publishDeath(Character ch, boolean ally) {
+        publish(GameEventTypeEnum.DEATH, ch, ally, 0, -1, 0);
+    }
+
+    /**
+     * Publishes that a turn of battle ended.
+     *
+     * @param turn The number of the turn, counted from 1.
+     */
+    public void publishTurnEnd(int turn) {
+        publish(GameEventTypeEnum.TURN_END, null, false, 0, -1, turn);
+    }
+
+    /**
+     * Publishes that both sides are set up and a battle starts.
+     *
+     * @param battle The number of battles survived so far.
+     */
+    public void publishBattleStart(int battle) {
+        publish(GameEventTypeEnum.BATTLE_START, null, false, 0, -1, battle);
+    }
+
+    /**
+     * Publishes that an effect was applied to a character.
+     *
+     * @param target The character the effect was applied to.
+     * @param effectId The ID of the effect.
+     * @param duration The duration it was applied for.
+     */
+    public void publishEffectApplied(Character target, int effectId, int duration) {
+        publish(GameEventTypeEnum.EFFECT_APPLIED, target, false, duration, effectId, 0);
+    }
+
+    /**
+     * Calls the subscribers of the event's type with a reused event object.
+     * Nothing is allocated once the pool is as deep as the deepest chain of events,
+     * and nothing at all is done for a type without subscribers.
+     */
+    private void publish(GameEventTypeEnum type, Character character, boolean ally, int amount, int effectId, int number) {
+        int t = type.ordinal();
+        int count = counts[t];
+        if (count == 0) {
+            return;
+        }
+        if (depth == pool.length) {
+            pool = Arrays.copyOf(pool, depth + 1);
+            pool[depth] = new GameEvent();
+        }
+        GameEvent event = pool[depth++];
+        event.set(type, character, ally, amount, effectId, number);
+        try {
+            GameEventListener[] subscribed = listeners[t];
+            for (int i = 0; i < count; i++) {
+                subscribed[i].onEvent(event);
+            }
+        } finally {
+            depth--;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package cz.spsejecna.universeclash.eventBus;
+
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Reacts to an event the listener subscribed to.
+     * The event object is reused by the bus, so it must not be kept after this call returns.
+     *
+     * @param event The `GameEvent` that just happened.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,11 @@
+package cz.spsejecna.universeclash.eventBus;
+
+public enum GameEventTypeEnum {
+
+    DAMAGE,
+    DEATH,
+    TURN_END,
+    BATTLE_START,
+    EFFECT_APPLIED
+
+}
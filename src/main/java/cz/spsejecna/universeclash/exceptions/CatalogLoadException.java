@@ -0,0 +1,17 @@
+package cz.spsejecna.universeclash.exceptions;
+
+public class CatalogLoadException extends GameException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception for a catalog that couldn't be read or parsed.
+     *
+     * @param catalog The name of the catalog, e.g. "cards".
+     * @param path The path of the catalog file.
+     * @param cause The exception that made loading fail.
+     */
+    public CatalogLoadException(String catalog, String path, Throwable cause) {
+        super("Failed to load " + catalog + " from " + path + ": " + cause.getMessage(), cause);
+    }
+}
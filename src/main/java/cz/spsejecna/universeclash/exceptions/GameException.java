@@ -0,0 +1,25 @@
+package cz.spsejecna.universeclash.exceptions;
+
+public class GameException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception ending a single game, leaving every other game in the process running.
+     *
+     * @param message The description of what went wrong.
+     */
+    public GameException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs an exception ending a single game, caused by another exception.
+     *
+     * @param message The description of what went wrong.
+     * @param cause The exception that caused it.
+     */
+    public GameException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
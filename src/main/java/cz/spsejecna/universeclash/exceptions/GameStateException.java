@@ -0,0 +1,16 @@
+package cz.spsejecna.universeclash.exceptions;
+
+public class GameStateException extends GameException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception for a game that got into a state the rules don't allow,
+     * e.g. a character spending SP it doesn't have.
+     *
+     * @param message The description of the broken rule.
+     */
+    public GameStateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package cz.spsejecna.universeclash.exceptions;
+
+public class ReplayException extends GameException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception for a replay that can't be read or doesn't match the game it is replayed in,
+     * e.g. a decision recorded on another turn than the replayed game asks for it.
+     *
+     * @param message The description of the mismatch.
+     */
+    public ReplayException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,13 @@
 package cz.spsejecna.universeclash.items;
 
+import cz.spsejecna.universeclash.GameData;
+
 import java.util.ArrayList;
 
 public class ItemController {
 
     private final ArrayList<Item> items = new ArrayList<>();
-    private final ItemRepository itemRepository = new ItemRepository();
+    private final ItemRepository itemRepository = GameData.get().getItemRepository();
 
     /**
      * Adds a new item to the controller's inventory.
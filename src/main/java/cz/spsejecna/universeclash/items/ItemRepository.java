@@ -1,6 +1,7 @@
 package cz.spsejecna.universeclash.items;
 
 import cz.spsejecna.universeclash.PathFinder;
+import cz.spsejecna.universeclash.exceptions.CatalogLoadException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -26,7 +27,7 @@ public class ItemRepository {
      * It parses the JSON array, and for each item object, extracts its ID, type, name, and description.
      * Based on the 'type' field, it instantiates the appropriate `Item` subclass (Potion, Debuffer, Grenade, or Misc)
      * using its respective builder and stores it in the `items` HashMap.
-     * If there's an error during file reading or parsing, it prints an error message and exits the program.
+     * If the file can't be read or parsed, a `CatalogLoadException` is thrown.
      */
     private void loadItems(){
         JSONParser parser = new JSONParser();
@@ -55,8 +56,7 @@ public class ItemRepository {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Failed to load items. Shutting down.\n" + e.getMessage());
-            System.exit(1);
+            throw new CatalogLoadException("items", PathFinder.itemsFilePath, e);
         }
     }
 
@@ -1,29 +1,92 @@
 package cz.spsejecna.universeclash.partyManager;
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.characters.Character;
 import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.EffectScheduler;
+import cz.spsejecna.universeclash.eventBus.GameEventBus;
 import java.util.ArrayList;
 
 public class PartyController {
 
     private final ArrayList<Character> party = new ArrayList<>();
     private final ArrayList<Character> enemyParty = new ArrayList<>();
-    private final CharacterRepository characterRepository = new CharacterRepository();
+    private final CharacterRepository characterRepository = GameData.get().getCharacterRepository();
+    private final EffectScheduler effectScheduler = new EffectScheduler();
+    private final GameEventBus eventBus = new GameEventBus();
+    private long partyMask = 0; // bit n is set while the character with id n is in the player's party
+    // Kept up to date by the characters' death callbacks, so nobody has to poll `isAlive()`
+    private int liveMembers = 0;
+    private int liveEnemies = 0;
+    private int memberCorpses = 0; // dead members still in `party`
+    private int enemyCorpses = 0; // dead enemies still in `enemyParty`
+    private int enemyKills = 0; // enemies that died since the last `activateSnowballing()`
 
     /**
-     * Adds a new character to the player's party. The character is obtained from the
-     * character repository using its ID and a copy is added to ensure independent instances.
+     * Adds a new character to the player's party. The character is spawned from the
+     * shared template in the character repository, so it already is an independent instance.
      * @param id The integer ID of the character to add.
      */
     public void addNewMember(int id){
-        party.add(characterRepository.obtainCharacter(id).copy());
+        Character ch = enlist(characterRepository.obtainCharacter(id));
+        ch.setDeathListener(this::memberDied);
+        party.add(ch);
+        liveMembers++;
+        partyMask |= maskOf(id);
     }
     /**
-     * Adds a new character to the enemy party. The character is obtained from the
-     * character repository using its ID and a copy is added.
+     * Adds a new character to the enemy party. The character is spawned from the
+     * shared template in the character repository.
      * @param id The integer ID of the character to add as an enemy.
      */
     public void addNewEnemy(int id){
-        enemyParty.add(characterRepository.obtainCharacter(id).copy());
+        Character ch = enlist(characterRepository.obtainCharacter(id));
+        ch.setDeathListener(this::enemyDied);
+        enemyParty.add(ch);
+        liveEnemies++;
+    }
+    /**
+     * Binds a newly added character's effects to the fight's effect scheduler,
+     * so that effects applied to it expire on the shared turn clock, and lets it publish on the fight's event bus.
+     * @param ch The character joining one of the parties.
+     * @return The same character, for chaining.
+     */
+    private Character enlist(Character ch){
+        ch.getEffects().setScheduler(effectScheduler);
+        ch.setEventBus(eventBus);
+        return ch;
+    }
+    /**
+     * Death callback of the player's characters. Counts the death and publishes it.
+     * @param ch The member that just died.
+     */
+    private void memberDied(Character ch){
+        liveMembers--;
+        memberCorpses++;
+        eventBus.publishDeath(ch, true);
+    }
+    /**
+     * Death callback of the enemies. Counts the death and publishes it.
+     * @param ch The enemy that just died.
+     */
+    private void enemyDied(Character ch){
+        liveEnemies--;
+        enemyCorpses++;
+        enemyKills++;
+        eventBus.publishDeath(ch, false);
+    }
+    /**
+     * Returns the bus the events of the fight are published on.
+     * @return The `GameEventBus` shared by both parties.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+    /**
+     * Returns the timing wheel that expires effects of every character in the fight.
+     * @return The `EffectScheduler` shared by both parties.
+     */
+    public EffectScheduler getEffectScheduler() {
+        return effectScheduler;
     }
     /**
      * Returns the current list of characters in the player's party.
@@ -42,52 +105,78 @@ public class PartyController {
     /**
      * Clears all characters from the enemy party, effectively resetting it.
      */
-    public void resetEnemies(){enemyParty.clear();}
-    /**
-     * Prints the current state of both the player's team and the enemy team to the console,
-     * showing each character's details.
-     */
-    public void printOutTheFight(){
-        System.out.println("Your team:\n"+party);
-        System.out.println("\n\nEnemy team:\n"+enemyParty);
+    public void resetEnemies(){
+        enemyParty.clear();
+        liveEnemies = 0;
+        enemyCorpses = 0;
+        enemyKills = 0;
     }
     /**
      * Checks if there is at least one character alive in the player's party.
-     * This method assumes `removeCorpses()` has been called recently to ensure accuracy.
-     * @return `true` if the player's party is not empty (i.e., at least one character is alive),
-     * `false` otherwise.
+     * The count is kept by the death callbacks, so it is exact even before the corpses are removed.
+     * @return `true` if at least one member of the player's party is alive, `false` otherwise.
      */
     public boolean isAnyoneAlive(){
-        return !party.isEmpty();
+        return liveMembers > 0;
+    }
+    /**
+     * Returns the number of living members of the player's party. Members that died
+     * since the corpses were last removed are already left out.
+     * @return The number of living members.
+     */
+    public int getLiveMemberCount(){
+        return liveMembers;
     }
     /**
      * Checks if any of the enemy characters have died since the last check.
      * This is typically used to activate effects like "Snowballing" which trigger when an enemy dies.
      * Corpses are removed before the check.
-     * @return `true` if the size of the enemy party decreased after removing dead characters,
-     * `false` otherwise.
+     * @return `true` if at least one enemy died since the previous call, `false` otherwise.
      */
     public boolean activateSnowballing(){
-        int saved = enemyParty.size();
         this.removeCorpses();
-        return saved > enemyParty.size();
+        boolean enemyDied = enemyKills > 0;
+        enemyKills = 0;
+        return enemyDied;
     }
     /**
      * Determines if the player has won the current battle.
      * This is true if all enemy characters have been defeated.
-     * Corpses are removed before the check to ensure only living enemies are counted.
-     * @return `true` if the enemy party is empty, `false` otherwise.
+     * Corpses are removed before the check.
+     * @return `true` if no enemy is alive, `false` otherwise.
      */
     public boolean wonBattle(){
         this.removeCorpses();
-        return enemyParty.isEmpty();
+        return liveEnemies == 0;
     }
     /**
-     * Removes all dead characters (those with `isAlive()` returning `false`)
-     * from both the player's party and the enemy party.
+     * Removes all dead characters from both the player's party and the enemy party.
+     * A party is only compacted when one of its characters actually died since the last removal,
+     * so on most turns this does nothing. Compacting keeps the order of the survivors.
      */
     public void removeCorpses(){
-        party.removeIf(ch -> !ch.isAlive());
-        enemyParty.removeIf(ch -> !ch.isAlive());
+        if (memberCorpses > 0) {
+            party.removeIf(ch -> !ch.isAlive());
+            memberCorpses = 0;
+            partyMask = 0;
+            for (Character ch : party) {
+                partyMask |= maskOf(ch.getCharacterID());
+            }
+        }
+        if (enemyCorpses > 0) {
+            enemyParty.removeIf(ch -> !ch.isAlive());
+            enemyCorpses = 0;
+        }
+    }
+    /**
+     * Returns the composition of the player's party as a bitmask of character IDs.
+     * It only changes when a member is drafted or dies, so it can be compared to tell whether the party changed.
+     * @return The mask with bit n set for every member with id n.
+     */
+    public long getPartyMask() {
+        return partyMask;
+    }
+    private static long maskOf(int id) {
+        return id >= 0 && id < Long.SIZE ? 1L << id : 0;
     }
 }
@@ -1,22 +1,41 @@
 package cz.spsejecna.universeclash.partyManager;
+import cz.spsejecna.universeclash.DraftSampler;
+import cz.spsejecna.universeclash.GameData;
 import cz.spsejecna.universeclash.characters.Character;
 import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.controllers.Controller;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Random;
-import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 public class PartyPicker {
-    private final Random rand = new Random();
-    private final Scanner sc = new Scanner(System.in);
-    private final CharacterRepository characterRepository = new CharacterRepository();
+    private final RandomGenerator rand;
+    private final Controller controller;
+    private final CharacterRepository characterRepository = GameData.get().getCharacterRepository();
+    private final DraftSampler sampler = new DraftSampler(characterRepository.getDraftTable());
+    private final int[] picks = new int[3];
+    private final ArrayList<CharacterTemplate> options = new ArrayList<>(3);
+
+    /**
+     * Constructs a `PartyPicker` letting the given controller draft the player's characters.
+     *
+     * @param controller The `Controller` deciding which character joins the player's team.
+     * @param rand The random generator the options and enemies are drawn with.
+     */
+    public PartyPicker(Controller controller, RandomGenerator rand) {
+        this.controller = controller;
+        this.rand = rand;
+    }
     /**
      * Generates a selection of characters for either the player's team or an enemy team.
      * If generating for the player's team, it presents three unique character options
-     * (not already in the current party) and prompts the user to select one by ID.
+     * (not already in the current party) and lets the controller choose one of them.
      * If generating for an enemy team, it randomly selects one unique character
      * (not already in the enemy party).
+     * Characters are drawn in proportion to their rarity weights, for the options and the enemies alike.
+     * The options are drawn as template IDs and shown as the shared templates, so nothing is copied;
+     * only the character that is actually added gets spawned, by the `PartyController`.
      *
      * @param party The current list of characters in the team (either player's or enemy's) to avoid duplicates.
      * @param yourteam A boolean indicating whether the selection is for the player's team (true) or an enemy team (false).
@@ -25,48 +44,20 @@ public class PartyPicker {
      * For the enemy team, it returns a random unique character ID.
      */
     public int generatePicks(ArrayList<Character> party, boolean yourteam){
+        sampler.clearExclusions();
+        for (Character ch : party) {
+            sampler.exclude(ch.getCharacterID());
+        }
         if (yourteam) {
-            HashMap<Integer, Character> remainingCharacters = characterRepository.getCharacters();
-            ArrayList<Character> options = new ArrayList<>();
-
-            for (Character ch : party) {
-                remainingCharacters.remove(ch.getCharacterID());
-            }
-
-            for (int i = 0; i < 3; i++) {
-                Object[] remainingCharactersArray = remainingCharacters.values().toArray();
-                Character randomCharacter = (Character) remainingCharactersArray[rand.nextInt(remainingCharactersArray.length)];
-                options.add(randomCharacter);
-                System.out.println(randomCharacter.fullinfo());
-                remainingCharacters.remove(randomCharacter.getCharacterID());
-            }
-            System.out.print("Type the id of the character you want to add to your team.\n>id: ");
-            while (true) {
-                try {
-                    int chosen = sc.nextInt();
-                    if (options.get(0).getCharacterID() == chosen ||
-                            options.get(1).getCharacterID() == chosen ||
-                            options.get(2).getCharacterID() == chosen) {
-                        return chosen;
-                    } else {
-                        System.out.println("Character with that id isn't currently available");
-                    }
-                } catch (Exception e) {
-                    System.err.println("ID has to be an integer.");
-                }
+            int drawn = sampler.sample(3, picks, rand);
+            options.clear();
+            for (int i = 0; i < drawn; i++) {
+                options.add(characterRepository.getTemplate(picks[i]));
             }
+            return controller.chooseCharacter(options);
         }else {
-            HashMap<Integer, Character> remainingCharacters = characterRepository.getCharacters();
-
-            for (Character ch : party) {
-                remainingCharacters.remove(ch.getCharacterID());
-            }
-
-            Object[] remainingCharactersArray = remainingCharacters.values().toArray();
-            Character randomCharacter = (Character) remainingCharactersArray[rand.nextInt(remainingCharactersArray.length)];
-            remainingCharacters.remove(randomCharacter.getCharacterID());
-            return randomCharacter.getCharacterID();
-
+            sampler.sample(1, picks, rand);
+            return picks[0];
         }
 
     }
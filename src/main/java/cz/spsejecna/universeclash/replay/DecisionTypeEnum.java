@@ -0,0 +1,13 @@
+package cz.spsejecna.universeclash.replay;
+
+public enum DecisionTypeEnum {
+
+    END,
+    ACTION,
+    TARGET,
+    CHARACTER,
+    CARD,
+    ITEM,
+    SHOP
+
+}
@@ -0,0 +1,128 @@
+package cz.spsejecna.universeclash.replay;
+
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.controllers.Controller;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.IntSupplier;
+
+public class RecordingController implements Controller {
+
+    private final Controller controller;
+    private final ReplayWriter writer;
+    private IntSupplier clock = () -> 0;
+
+    /**
+     * Constructs a controller passing every decision of the given controller through unchanged,
+     * appending each one to a replay on the way.
+     *
+     * @param controller The `Controller` actually making the decisions.
+     * @param writer The `ReplayWriter` the decisions are recorded with.
+     */
+    public RecordingController(Controller controller, ReplayWriter writer) {
+        this.controller = controller;
+        this.writer = writer;
+    }
+
+    /**
+     * Sets where the turn of every decision is read from, usually `Events::getTurnsPlayed` of the recorded game.
+     *
+     * @param clock The supplier of the current turn, which never decreases.
+     */
+    public void setClock(IntSupplier clock) {
+        this.clock = clock;
+    }
+
+    private void record(DecisionTypeEnum type, int value) {
+        try {
+            writer.writeDecision(type, clock.getAsInt(), value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the action chosen by the wrapped controller.
+     *
+     * @param ch The character whose turn it is.
+     * @return The chosen action.
+     */
+    @Override
+    public int chooseAction(Character ch) {
+        int action = controller.chooseAction(ch);
+        record(DecisionTypeEnum.ACTION, action);
+        return action;
+    }
+
+    /**
+     * Records the slot of the target chosen by the wrapped controller.
+     *
+     * @param team The team the target is chosen from.
+     * @return The chosen target.
+     */
+    @Override
+    public Character chooseTarget(ArrayList<Character> team) {
+        Character target = controller.chooseTarget(team);
+        record(DecisionTypeEnum.TARGET, team.indexOf(target));
+        return target;
+    }
+
+    /**
+     * Records the ID of the character chosen by the wrapped controller.
+     *
+     * @param options The characters on offer.
+     * @return The ID of the chosen character.
+     */
+    @Override
+    public int chooseCharacter(ArrayList<CharacterTemplate> options) {
+        int chosen = controller.chooseCharacter(options);
+        record(DecisionTypeEnum.CHARACTER, chosen);
+        return chosen;
+    }
+
+    /**
+     * Records the ID of the card chosen by the wrapped controller.
+     *
+     * @param options The cards on offer.
+     * @return The ID of the chosen card.
+     */
+    @Override
+    public int chooseCard(ArrayList<Card> options) {
+        int chosen = controller.chooseCard(options);
+        record(DecisionTypeEnum.CARD, chosen);
+        return chosen;
+    }
+
+    /**
+     * Records the inventory slot of the item chosen by the wrapped controller, counted from 1, or 0 for none.
+     *
+     * @param items The items currently in the inventory.
+     * @return The item to use, or `null` to use none.
+     */
+    @Override
+    public Item chooseItem(ArrayList<Item> items) {
+        Item item = controller.chooseItem(items);
+        record(DecisionTypeEnum.ITEM, item == null ? 0 : items.indexOf(item) + 1);
+        return item;
+    }
+
+    /**
+     * Records the ID of the item bought by the wrapped controller, shifted by one so buying nothing is 0.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The ID of the item to buy, or -1 to buy nothing.
+     */
+    @Override
+    public int chooseShopItem(Collection<Item> stock, int coins) {
+        int chosen = controller.chooseShopItem(stock, coins);
+        record(DecisionTypeEnum.SHOP, chosen + 1);
+        return chosen;
+    }
+}
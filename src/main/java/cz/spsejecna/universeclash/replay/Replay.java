@@ -0,0 +1,114 @@
+package cz.spsejecna.universeclash.replay;
+
+import cz.spsejecna.universeclash.Events;
+import cz.spsejecna.universeclash.GameData;
+import cz.spsejecna.universeclash.GameSession;
+import cz.spsejecna.universeclash.Renderer;
+import cz.spsejecna.universeclash.SessionResult;
+import cz.spsejecna.universeclash.Simulator;
+import cz.spsejecna.universeclash.controllers.RandomController;
+import cz.spsejecna.universeclash.exceptions.GameException;
+import cz.spsejecna.universeclash.exceptions.ReplayException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+public class Replay {
+
+    /**
+     * Records a run into a replay file, or replays one and verifies it ends in the same state.
+     * Usage: `Replay record file seed [battleLimit]` or `Replay replay file`.
+     *
+     * @param args The mode, the path of the replay file and, when recording, the seed and the battle limit.
+     * @throws IOException If the replay file can't be written or read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args[1]);
+        GameData.get(); // Load the catalogs before the clock starts
+        long start = System.nanoTime();
+        if (args[0].equals("record")) {
+            long seed = Long.parseLong(args[2]);
+            int battleLimit = args.length > 3 ? Integer.parseInt(args[3]) : Simulator.DEFAULT_BATTLE_LIMIT;
+            int battles;
+            long size;
+            try (ReplayWriter writer = ReplayWriter.create(path, seed, battleLimit)) {
+                battles = record(seed, battleLimit, writer);
+                size = writer.getSize();
+            } catch (IOException | GameException e) {
+                Files.deleteIfExists(path); // Don't leave a replay without its end behind
+                System.err.println("Recording failed: " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+            System.out.printf("Recorded %d battles in %d bytes (%d bytes per battle)%n", battles, size, size / Math.max(1, battles));
+        } else {
+            try (ReplayReader reader = ReplayReader.open(path)) {
+                int battles = verify(reader);
+                System.out.printf("Replay verified: %d battles, same final state, in %.1f ms%n",
+                        battles, (System.nanoTime() - start) / 1e6);
+            } catch (ReplayException e) {
+                System.err.println("Replay failed: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Plays the same run as `Simulator.playRun(seed, battleLimit)`, without any output, recording every decision
+     * of the player's side and, at the end, the battles survived and the hash of the final state.
+     * The enemies' decisions aren't recorded; they follow from the seed.
+     *
+     * @param seed The seed of the run.
+     * @param battleLimit The number of survived battles after which the run is stopped.
+     * @param writer The `ReplayWriter` the run is recorded with, already holding the same seed and battle limit.
+     * @return The number of battles survived.
+     * @throws IOException If writing the replay fails.
+     * @throws GameException If the run fails; the replay is then left without its end.
+     */
+    public static int record(long seed, int battleLimit, ReplayWriter writer) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        RecordingController recorder = new RecordingController(new RandomController(random.split()), writer);
+        Events events = new Events(recorder, Renderer.quiet(), random);
+        recorder.setClock(events::getTurnsPlayed);
+        SessionResult result = new GameSession(events).play(battleLimit);
+        if (result.isFailed()) {
+            GameException failure = result.getFailure();
+            if (failure.getCause() instanceof UncheckedIOException e) {
+                throw e.getCause();
+            }
+            throw failure;
+        }
+        writer.writeEnd(events.getTurnsPlayed(), result.getBattles(), events.stateHash());
+        return result.getBattles();
+    }
+
+    /**
+     * Replays a recorded run at full speed, without any output, and checks it ends like the recorded one:
+     * on the same turn, with the same number of battles and the same final state hash.
+     *
+     * @param reader The `ReplayReader` of the replay, past its header.
+     * @return The number of battles survived.
+     * @throws ReplayException If the replayed run diverges from the recorded one.
+     */
+    public static int verify(ReplayReader reader) {
+        SplittableRandom random = new SplittableRandom(reader.getSeed());
+        random.split(); // The generator the recorded player decided with, replaced by the replay
+        ReplayController replayer = new ReplayController(reader);
+        Events events = new Events(replayer, Renderer.quiet(), random);
+        replayer.setClock(events::getTurnsPlayed);
+        SessionResult result = new GameSession(events).play(reader.getBattleLimit());
+        if (result.isFailed() && result.getFailure() instanceof ReplayException) {
+            throw (ReplayException) result.getFailure();
+        }
+        int turn = reader.readEnd();
+        if (turn != events.getTurnsPlayed() || reader.getEndBattles() != result.getBattles()
+                || reader.getEndStateHash() != events.stateHash()) {
+            throw new ReplayException("Replay ended differently: recorded " + reader.getEndBattles() + " battles after turn "
+                    + turn + ", replayed " + result.getBattles() + " battles after turn " + events.getTurnsPlayed());
+        }
+        return result.getBattles();
+    }
+}
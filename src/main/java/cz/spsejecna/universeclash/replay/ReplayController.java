@@ -0,0 +1,109 @@
+package cz.spsejecna.universeclash.replay;
+
+import cz.spsejecna.universeclash.cards.Card;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.controllers.Controller;
+import cz.spsejecna.universeclash.items.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.IntSupplier;
+
+public class ReplayController implements Controller {
+
+    private final ReplayReader reader;
+    private IntSupplier clock = () -> 0;
+
+    /**
+     * Constructs a controller making every decision exactly as recorded in a replay.
+     * Each decision is checked to be asked for on the same turn as it was recorded, so a game
+     * that plays out differently than the recorded one fails right where it diverged.
+     *
+     * @param reader The `ReplayReader` the decisions are read from, past its header.
+     */
+    public ReplayController(ReplayReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Sets where the current turn is read from, usually `Events::getTurnsPlayed` of the replayed game.
+     *
+     * @param clock The supplier of the current turn.
+     */
+    public void setClock(IntSupplier clock) {
+        this.clock = clock;
+    }
+
+    private int replay(DecisionTypeEnum type) {
+        return reader.readDecision(type, clock.getAsInt());
+    }
+
+    /**
+     * Replays an action.
+     *
+     * @param ch The character whose turn it is.
+     * @return The recorded action.
+     */
+    @Override
+    public int chooseAction(Character ch) {
+        return replay(DecisionTypeEnum.ACTION);
+    }
+
+    /**
+     * Replays a target by its slot in the team.
+     *
+     * @param team The team the target is chosen from.
+     * @return The member in the recorded slot.
+     */
+    @Override
+    public Character chooseTarget(ArrayList<Character> team) {
+        return team.get(replay(DecisionTypeEnum.TARGET));
+    }
+
+    /**
+     * Replays the character joining the party.
+     *
+     * @param options The characters on offer.
+     * @return The recorded ID.
+     */
+    @Override
+    public int chooseCharacter(ArrayList<CharacterTemplate> options) {
+        return replay(DecisionTypeEnum.CHARACTER);
+    }
+
+    /**
+     * Replays the card added to the collection.
+     *
+     * @param options The cards on offer.
+     * @return The recorded ID.
+     */
+    @Override
+    public int chooseCard(ArrayList<Card> options) {
+        return replay(DecisionTypeEnum.CARD);
+    }
+
+    /**
+     * Replays the item used, by its slot in the inventory.
+     *
+     * @param items The items currently in the inventory.
+     * @return The item in the recorded slot, or `null` if none was used.
+     */
+    @Override
+    public Item chooseItem(ArrayList<Item> items) {
+        int slot = replay(DecisionTypeEnum.ITEM);
+        return slot == 0 ? null : items.get(slot - 1);
+    }
+
+    /**
+     * Replays the item bought in the shop.
+     *
+     * @param stock The items sold in the shop.
+     * @param coins The coins the player currently has.
+     * @return The recorded ID, or -1 if nothing was bought.
+     */
+    @Override
+    public int chooseShopItem(Collection<Item> stock, int coins) {
+        return replay(DecisionTypeEnum.SHOP) - 1;
+    }
+}
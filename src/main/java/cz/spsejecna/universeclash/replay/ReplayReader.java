@@ -0,0 +1,191 @@
+package cz.spsejecna.universeclash.replay;
+
+import cz.spsejecna.universeclash.exceptions.ReplayException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayReader implements AutoCloseable {
+
+    private static final DecisionTypeEnum[] TYPES = DecisionTypeEnum.values();
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+    private final long seed;
+    private final int battleLimit;
+    private int turn;
+    private int endBattles;
+    private long endStateHash;
+
+    /**
+     * Constructs a reader of the replay in the given channel and reads its header.
+     *
+     * @param channel The channel the replay is read from.
+     * @throws IOException If reading fails.
+     * @throws ReplayException If the channel doesn't hold a replay.
+     */
+    public ReplayReader(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.flip(); // Start empty
+        if (getInt() != ReplayWriter.MAGIC) {
+            throw new ReplayException("Not a replay");
+        }
+        this.seed = getLong();
+        this.battleLimit = getVarint();
+    }
+
+    /**
+     * Opens a reader of a replay file.
+     *
+     * @param path The path of the replay file.
+     * @return The new `ReplayReader`.
+     * @throws IOException If the file can't be read.
+     */
+    public static ReplayReader open(Path path) throws IOException {
+        return new ReplayReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Returns the seed of the recorded game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the battle limit of the recorded game.
+     *
+     * @return The battle limit.
+     */
+    public int getBattleLimit() {
+        return battleLimit;
+    }
+
+    /**
+     * Reads the next decision, checking that the replayed game asks for the same kind of decision
+     * on the same turn as the recorded one did.
+     *
+     * @param type The type of decision the replayed game asks for.
+     * @param turn The turn the replayed game is on.
+     * @return The recorded value of the decision.
+     * @throws ReplayException If the next record is another decision, was made on another turn, or the replay has ended.
+     */
+    public int readDecision(DecisionTypeEnum type, int turn) {
+        DecisionTypeEnum recorded = readTag();
+        if (recorded != type || this.turn != turn) {
+            throw new ReplayException("Replay out of sync: the game asks for " + type + " on turn " + turn
+                    + ", the replay has " + recorded + " on turn " + this.turn);
+        }
+        return getVarint();
+    }
+
+    /**
+     * Reads the end of the game, which has to be the next record.
+     * The recorded outcome is then available from `getEndBattles` and `getEndStateHash`.
+     *
+     * @return The turn the recorded game ended on.
+     * @throws ReplayException If the next record is a decision or the replay has ended.
+     */
+    public int readEnd() {
+        DecisionTypeEnum recorded = readTag();
+        if (recorded != DecisionTypeEnum.END) {
+            throw new ReplayException("Replay out of sync: the game is over, the replay has " + recorded + " on turn " + turn);
+        }
+        endBattles = getVarint();
+        endStateHash = getLong();
+        return turn;
+    }
+
+    /**
+     * Returns the number of battles the recorded game survived, once the end was read.
+     *
+     * @return The recorded battle count.
+     */
+    public int getEndBattles() {
+        return endBattles;
+    }
+
+    /**
+     * Returns the hash of the final state of the recorded game, once the end was read.
+     *
+     * @return The recorded state hash.
+     */
+    public long getEndStateHash() {
+        return endStateHash;
+    }
+
+    private DecisionTypeEnum readTag() {
+        int tag = getByte();
+        int delta = tag >>> ReplayWriter.TYPE_BITS;
+        if (delta == ReplayWriter.DELTA_ESCAPE) {
+            delta = getVarint();
+        }
+        int type = tag & (1 << ReplayWriter.TYPE_BITS) - 1;
+        if (type >= TYPES.length) {
+            throw new ReplayException("Corrupt replay: unknown record type " + type);
+        }
+        turn += delta;
+        return TYPES[type];
+    }
+
+    private int getVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = getByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ReplayException("Corrupt replay: varint too long");
+    }
+
+    private int getInt() {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = value << 8 | getByte();
+        }
+        return value;
+    }
+
+    private long getLong() {
+        return (long) getInt() << 32 | getInt() & 0xFFFFFFFFL;
+    }
+
+    private int getByte() {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            try {
+                int read;
+                do {
+                    read = channel.read(buffer);
+                } while (read == 0);
+                if (read < 0) {
+                    throw new ReplayException("The replay ended unexpectedly");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                buffer.flip();
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException If closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
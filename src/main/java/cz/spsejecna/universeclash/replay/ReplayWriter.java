@@ -0,0 +1,139 @@
+package cz.spsejecna.universeclash.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayWriter implements AutoCloseable {
+
+    public static final int MAGIC = 0x55435231; // "UCR1"
+
+    // The type of a decision takes the low bits of its tag, the turn delta the rest
+    static final int TYPE_BITS = 3;
+    static final int DELTA_ESCAPE = 0xFF >>> TYPE_BITS; // a delta this high or higher follows the tag as a varint
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+    private long bytesWritten;
+    private int lastTurn;
+
+    /**
+     * Constructs a writer appending a replay to the given channel, starting with its header.
+     * Everything goes through one buffer, which is only written to the channel when it is full or the writer is closed.
+     *
+     * @param channel The channel the replay is written to.
+     * @param seed The seed of the recorded game.
+     * @param battleLimit The battle limit of the recorded game.
+     * @throws IOException If writing fails.
+     */
+    public ReplayWriter(WritableByteChannel channel, long seed, int battleLimit) throws IOException {
+        this.channel = channel;
+        ensure(16);
+        buffer.putInt(MAGIC);
+        buffer.putLong(seed);
+        putVarint(battleLimit);
+    }
+
+    /**
+     * Creates a writer recording into a file, replacing it if it exists.
+     *
+     * @param path The path of the replay file.
+     * @param seed The seed of the recorded game.
+     * @param battleLimit The battle limit of the recorded game.
+     * @return The new `ReplayWriter`.
+     * @throws IOException If the file can't be opened.
+     */
+    public static ReplayWriter create(Path path, long seed, int battleLimit) throws IOException {
+        return new ReplayWriter(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), seed, battleLimit);
+    }
+
+    /**
+     * Appends a decision. It takes a single tag byte, holding its type and how many turns passed since the previous
+     * decision, followed by its value as a varint, so most decisions take two bytes.
+     *
+     * @param type The type of the decision.
+     * @param turn The turn the decision was made on, never lower than that of the previous decision.
+     * @param value The decision, encoded as a non-negative number.
+     * @throws IOException If writing fails.
+     */
+    public void writeDecision(DecisionTypeEnum type, int turn, int value) throws IOException {
+        ensure(11);
+        putTag(type, turn);
+        putVarint(value);
+    }
+
+    /**
+     * Appends the end of the game: the number of battles survived and the hash of the final state.
+     *
+     * @param turn The turn the game ended on.
+     * @param battles The number of battles survived.
+     * @param stateHash The hash of the final state of the game.
+     * @throws IOException If writing fails.
+     */
+    public void writeEnd(int turn, int battles, long stateHash) throws IOException {
+        ensure(20);
+        putTag(DecisionTypeEnum.END, turn);
+        putVarint(battles);
+        buffer.putLong(stateHash);
+    }
+
+    private void putTag(DecisionTypeEnum type, int turn) {
+        int delta = turn - lastTurn;
+        lastTurn = turn;
+        if (delta < DELTA_ESCAPE) {
+            buffer.put((byte) (type.ordinal() | delta << TYPE_BITS));
+        } else {
+            buffer.put((byte) (type.ordinal() | DELTA_ESCAPE << TYPE_BITS));
+            putVarint(delta);
+        }
+    }
+
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the size of the replay so far, including what is still buffered.
+     *
+     * @return The number of bytes.
+     */
+    public long getSize() {
+        return bytesWritten + buffer.position();
+    }
+
+    /**
+     * Writes out the buffer and closes the channel.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package cz.spsejecna.universeclash.server;
+
+import cz.spsejecna.universeclash.Events;
+import cz.spsejecna.universeclash.GameData;
+import cz.spsejecna.universeclash.GameSession;
+import cz.spsejecna.universeclash.SessionResult;
+import cz.spsejecna.universeclash.controllers.ConsoleController;
+import cz.spsejecna.universeclash.controllers.InputSource;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GameServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7707;
+
+    // Large enough for a whole battle report, small enough to keep ten thousand idle sessions cheap
+    private static final int OUTPUT_BUFFER = 4096;
+
+    private final ServerSocket serverSocket;
+    private final int battleLimit;
+    private final ExecutorService sessions = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("session-", 0).factory());
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Constructs a server listening on the given port of the loopback interface.
+     * Nothing is accepted until `serve` is called.
+     *
+     * @param port The port to listen on, 0 to pick a free one.
+     * @param battleLimit The number of survived battles after which a game is stopped.
+     * @throws IOException If the port can't be bound.
+     */
+    public GameServer(int port, int battleLimit) throws IOException {
+        this.serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+        this.battleLimit = battleLimit;
+    }
+
+    /**
+     * Starts a server and serves games until the process is stopped.
+     * Usage: `GameServer [port] [battleLimit]`.
+     *
+     * @param args The port and the battle limit, both optional.
+     * @throws IOException If the port can't be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int battleLimit = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        GameData.get(); // Load the catalogs before the first player connects
+        try (GameServer server = new GameServer(port, battleLimit)) {
+            System.out.println("Serving games on port " + server.getPort());
+            server.serve();
+        }
+    }
+
+    /**
+     * Accepts connections until the server is closed. Every connection gets its own game on its own
+     * virtual thread, with the player's decisions read from the socket and everything the game shows
+     * written back to it. A session waiting for its player parks its virtual thread instead of holding
+     * a platform thread, so the number of open games is bound by memory, not by threads.
+     *
+     * @throws IOException If accepting fails for any other reason than the server being closed.
+     */
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            connections.add(socket);
+            active.incrementAndGet();
+            sessions.execute(() -> host(socket));
+        }
+    }
+
+    private void host(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream(), OUTPUT_BUFFER), false, StandardCharsets.UTF_8);
+            // The output is only flushed when the game waits for the player, so a battle goes out in one write
+            InputSource sc = new InputSource(new InputStreamReader(new FlushingInputStream(socket.getInputStream(), out), StandardCharsets.UTF_8));
+            Events events = new Events(new ConsoleController(sc, out), out, new SplittableRandom());
+            SessionResult result = new GameSession(events).play(battleLimit);
+            if (result.isFailed()) {
+                // Most often the player just disconnected mid-game
+                failed.increment();
+            } else {
+                finished.increment();
+                out.println("GG you survived " + result.getBattles() + " battles!");
+            }
+            out.flush();
+        } catch (IOException e) {
+            failed.increment();
+        } finally {
+            connections.remove(socket);
+            active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of games currently being played.
+     *
+     * @return The number of open sessions.
+     */
+    public int getActiveSessions() {
+        return active.get();
+    }
+
+    /**
+     * Returns the number of games that ended normally.
+     *
+     * @return The number of finished sessions.
+     */
+    public long getFinishedSessions() {
+        return finished.sum();
+    }
+
+    /**
+     * Returns the number of games that ended with an error or a disconnected player.
+     *
+     * @return The number of failed sessions.
+     */
+    public long getFailedSessions() {
+        return failed.sum();
+    }
+
+    /**
+     * Stops accepting, disconnects every player still playing and waits for their sessions to end.
+     *
+     * @throws IOException If the server socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // The session ends either way
+            }
+        }
+        sessions.shutdown();
+        try {
+            sessions.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Flushes the session's output before every read from the socket, so the player sees
+     * everything up to the prompt before the game blocks waiting for the answer.
+     */
+    private static class FlushingInputStream extends FilterInputStream {
+        private final PrintStream out;
+
+        private FlushingInputStream(InputStream in, PrintStream out) {
+            super(in);
+            this.out = out;
+        }
+
+        /**
+         * Flushes the output, then reads a single byte.
+         *
+         * @return The byte read, or -1 at the end of the stream.
+         * @throws IOException If reading fails.
+         */
+        @Override
+        public int read() throws IOException {
+            out.flush();
+            return super.read();
+        }
+
+        /**
+         * Flushes the output, then reads up to `len` bytes.
+         *
+         * @param b The buffer to read into.
+         * @param off The offset in the buffer.
+         * @param len The maximum number of bytes to read.
+         * @return The number of bytes read, or -1 at the end of the stream.
+         * @throws IOException If reading fails.
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            out.flush();
+            return super.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package cz.spsejecna.universeclash.server;
+
+public enum JobStateEnum {
+
+    QUEUED,
+    RUNNING,
+    DONE,
+    CANCELLED,
+    FAILED
+
+}
@@ -0,0 +1,168 @@
+package cz.spsejecna.universeclash.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadGenerator {
+
+    private final int port;
+    private final long thinkMillis;
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger peakConnected = new AtomicInteger();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder decisions = new LongAdder();
+
+    /**
+     * Constructs a generator of players connecting to a `GameServer` on the loopback interface.
+     *
+     * @param port The port the server listens on.
+     * @param thinkMillis How long every player waits before answering a prompt, keeping its session idle meanwhile.
+     */
+    public LoadGenerator(int port, long thinkMillis) {
+        this.port = port;
+        this.thinkMillis = thinkMillis;
+    }
+
+    /**
+     * Connects a number of players to a running `GameServer` and prints how the server coped.
+     * Usage: `LoadGenerator [clients] [thinkMillis] [port]`.
+     *
+     * @param args The number of concurrent players, the think time and the port, all optional.
+     * @throws InterruptedException If interrupted while the players are playing.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long thinkMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : GameServer.DEFAULT_PORT;
+
+        LoadGenerator generator = new LoadGenerator(port, thinkMillis);
+        long start = System.nanoTime();
+        generator.run(clients);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d clients in %.2f s, %d connected at once, %d games finished, %d failed, %d decisions (%.0f/s)%n",
+                clients, seconds, generator.getPeakConnected(), generator.getFinished(), generator.getFailed(),
+                generator.getDecisions(), generator.getDecisions() / seconds);
+    }
+
+    /**
+     * Plays the given number of games at once, each player on its own virtual thread,
+     * and returns once every game has ended.
+     *
+     * @param clients The number of concurrent players.
+     * @throws InterruptedException If interrupted while the players are playing.
+     */
+    public void run(int clients) throws InterruptedException {
+        ExecutorService players = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < clients; i++) {
+            players.execute(this::play);
+        }
+        players.shutdown();
+        while (!players.awaitTermination(1, TimeUnit.SECONDS)) {
+            // Keep waiting, the games take as long as they take
+        }
+    }
+
+    /**
+     * Plays a single game like a player who always picks the last option offered,
+     * attacks the first target and never buys or uses anything.
+     */
+    private void play() {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            peakConnected.accumulateAndGet(connected.incrementAndGet(), Math::max);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            int lastOffered = -1;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String answer = null;
+                if (line.contains("{id:")) {
+                    // The options are listed right before the prompt, after anything else showing IDs
+                    lastOffered = parseId(line);
+                } else if (line.startsWith("Type the id of the character") || line.startsWith("Type the id of the card")) {
+                    answer = String.valueOf(lastOffered);
+                } else if (line.startsWith("Playing as:")) {
+                    answer = "0";
+                } else if (line.startsWith("Type the number or the name of your target.")) {
+                    answer = "1";
+                } else if (line.startsWith("Wanna use an item?")) {
+                    answer = "no";
+                } else if (line.startsWith("Type the id of the item you want")) {
+                    answer = "-1";
+                } else if (line.contains("isn't currently available")) {
+                    break; // The game would wait for a valid answer forever
+                } else if (line.startsWith("GG")) {
+                    finished.increment();
+                    return;
+                }
+                if (answer != null) {
+                    if (thinkMillis > 0) {
+                        Thread.sleep(thinkMillis);
+                    }
+                    out.println(answer);
+                    decisions.increment();
+                }
+            }
+            failed.increment(); // The server hung up before the game was over
+        } catch (IOException e) {
+            failed.increment();
+        } catch (InterruptedException e) {
+            failed.increment();
+            Thread.currentThread().interrupt();
+        } finally {
+            connected.decrementAndGet();
+        }
+    }
+
+    private static int parseId(String line) {
+        int start = line.indexOf("{id:") + 4;
+        int end = line.indexOf('}', start);
+        return Integer.parseInt(line.substring(start, end).trim());
+    }
+
+    /**
+     * Returns the most players that were connected at the same time.
+     *
+     * @return The peak number of open connections.
+     */
+    public int getPeakConnected() {
+        return peakConnected.get();
+    }
+
+    /**
+     * Returns the number of games played to their end.
+     *
+     * @return The number of finished games.
+     */
+    public long getFinished() {
+        return finished.sum();
+    }
+
+    /**
+     * Returns the number of games that couldn't be connected or were cut off.
+     *
+     * @return The number of failed games.
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of prompts answered across all games.
+     *
+     * @return The number of decisions sent.
+     */
+    public long getDecisions() {
+        return decisions.sum();
+    }
+}
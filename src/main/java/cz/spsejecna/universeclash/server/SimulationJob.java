@@ -0,0 +1,225 @@
+package cz.spsejecna.universeclash.server;
+
+import cz.spsejecna.universeclash.Simulator;
+import org.json.simple.JSONValue;
+
+import java.util.Arrays;
+
+public class SimulationJob {
+    private final long id;
+    private final int runs;
+    private final int battleLimit;
+    private final long seed;
+    private final int histogramSize;
+    private long[] histogram = new long[0]; // Grown to the most battles any run has survived so far
+    private int completed;
+    private JobStateEnum state = JobStateEnum.QUEUED;
+    private String failure;
+    private long version; // Bumped on every change anyone watching the job should see
+
+    /**
+     * Constructs a queued job of simulated runs.
+     *
+     * @param id The ID the job is looked up by.
+     * @param runs The number of runs to play.
+     * @param battleLimit The number of survived battles after which a run is stopped.
+     * @param seed The seed of the whole job; run `n` is seeded like run `n` of `Simulator.simulate`.
+     */
+    public SimulationJob(long id, int runs, int battleLimit, long seed) {
+        this.id = id;
+        this.runs = runs;
+        this.battleLimit = battleLimit;
+        this.seed = seed;
+        this.histogramSize = Simulator.histogramSize(battleLimit);
+    }
+
+    /**
+     * Plays the next chunk of runs. A job is played a chunk at a time so that a worker can move on
+     * to other jobs in between, and a cancelled job stops after the run it's currently playing.
+     *
+     * @param chunkRuns The most runs to play in this call.
+     * @return `true` if runs remain and the job should be played further, `false` once it is over.
+     */
+    public boolean runChunk(int chunkRuns) {
+        int from;
+        synchronized (this) {
+            if (isFinished()) {
+                return false;
+            }
+            state = JobStateEnum.RUNNING;
+            from = completed;
+        }
+        int to = Math.min(runs, from + chunkRuns);
+        for (int run = from; run < to; run++) {
+            int battles = Simulator.playRun(Simulator.runSeed(seed, run), battleLimit);
+            synchronized (this) {
+                if (state == JobStateEnum.CANCELLED) {
+                    return false;
+                }
+                if (battles >= histogram.length) {
+                    histogram = Arrays.copyOf(histogram, Math.min(histogramSize, Math.max(battles + 1, histogram.length * 2)));
+                }
+                histogram[battles]++;
+                completed++;
+            }
+        }
+        synchronized (this) {
+            if (completed == runs) {
+                state = JobStateEnum.DONE;
+            }
+            changed();
+            return state == JobStateEnum.RUNNING;
+        }
+    }
+
+    /**
+     * Cancels the job, keeping the runs already played.
+     *
+     * @return `true` if the job was cancelled, `false` if it was already over.
+     */
+    public synchronized boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        state = JobStateEnum.CANCELLED;
+        changed();
+        return true;
+    }
+
+    /**
+     * Ends the job because playing it failed, keeping the runs already played.
+     *
+     * @param message What went wrong.
+     */
+    public synchronized void fail(String message) {
+        if (!isFinished()) {
+            state = JobStateEnum.FAILED;
+            failure = message;
+            changed();
+        }
+    }
+
+    private void changed() {
+        version++;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the job is over, whether it was played to its end or not.
+     *
+     * @return `true` if the job is done, cancelled or failed.
+     */
+    public synchronized boolean isFinished() {
+        return state == JobStateEnum.DONE || state == JobStateEnum.CANCELLED || state == JobStateEnum.FAILED;
+    }
+
+    /**
+     * Waits until the job changes after the given version, or until it is over.
+     *
+     * @param seenVersion The version the caller has already seen.
+     * @param timeoutMillis The longest time to wait.
+     * @return The current version.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public synchronized long awaitChange(long seenVersion, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long left = timeoutMillis;
+        while (version == seenVersion && !isFinished() && left > 0) {
+            wait(left);
+            left = deadline - System.currentTimeMillis();
+        }
+        return version;
+    }
+
+    /**
+     * Returns the version of the job, bumped on every change.
+     *
+     * @return The current version.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ID of the job.
+     *
+     * @return The job's ID.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the state of the job.
+     *
+     * @return The current `JobStateEnum`.
+     */
+    public synchronized JobStateEnum getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of runs played so far.
+     *
+     * @return The completed runs.
+     */
+    public synchronized int getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns a copy of the histogram of the runs played so far.
+     *
+     * @return A histogram where index `n` holds the number of runs that survived exactly `n` battles.
+     */
+    public synchronized long[] getHistogram() {
+        return Arrays.copyOf(histogram, histogramSize);
+    }
+
+    /**
+     * Returns the memory taken by the histogram, which is most of what a finished job keeps.
+     *
+     * @return The size of the histogram in bytes.
+     */
+    public synchronized long getHistogramBytes() {
+        return (long) histogram.length * Long.BYTES;
+    }
+
+    /**
+     * Describes the job and the aggregate of the runs played so far as a JSON object.
+     * The histogram only lists the numbers of battles some run ended with.
+     *
+     * @return The JSON text.
+     */
+    public synchronized String toJSON() {
+        StringBuilder sb = new StringBuilder("{\"id\":").append(id)
+                .append(",\"state\":\"").append(state).append('"')
+                .append(",\"runs\":").append(runs)
+                .append(",\"completed\":").append(completed)
+                .append(",\"battleLimit\":").append(battleLimit)
+                .append(",\"seed\":").append(seed);
+        if (failure != null) {
+            sb.append(",\"failure\":\"").append(JSONValue.escape(failure)).append('"');
+        }
+        if (completed > 0) {
+            long total = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                total += i * histogram[i];
+            }
+            sb.append(",\"mean\":").append((double) total / completed)
+                    .append(",\"p50\":").append(Simulator.percentile(histogram, completed, 0.50))
+                    .append(",\"p90\":").append(Simulator.percentile(histogram, completed, 0.90))
+                    .append(",\"p99\":").append(Simulator.percentile(histogram, completed, 0.99))
+                    .append(",\"max\":").append(Simulator.percentile(histogram, completed, 1.0));
+        }
+        sb.append(",\"histogram\":{");
+        boolean first = true;
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                sb.append(first ? "" : ",").append('"').append(i).append("\":").append(histogram[i]);
+                first = false;
+            }
+        }
+        return sb.append("}}").toString();
+    }
+}
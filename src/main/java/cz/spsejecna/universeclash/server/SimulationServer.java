@@ -0,0 +1,207 @@
+package cz.spsejecna.universeclash.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import cz.spsejecna.universeclash.Simulator;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class SimulationServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7708;
+
+    // A job request is a handful of numbers, anything longer is refused before it is parsed
+    private static final int MAX_BODY = 4096;
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000;
+
+    private final HttpServer server;
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimulationService service;
+
+    /**
+     * Constructs an HTTP API for submitting simulation jobs to the given service, listening on the loopback interface.
+     * Nothing is served until `start` is called. The API is:
+     * `POST /jobs` with `{"runs": n, "battleLimit": n, "seed": n}` queues a job, answering 202 with the job,
+     * or 429 with `Retry-After` when the service is saturated;
+     * `GET /jobs/{id}` returns the job's state and the aggregate of its runs so far;
+     * `GET /jobs/{id}/progress` streams the same object, one JSON line per change, until the job is over;
+     * `DELETE /jobs/{id}` cancels the job.
+     *
+     * @param port The port to listen on, 0 to pick a free one.
+     * @param service The `SimulationService` playing the jobs.
+     * @throws IOException If the port can't be bound.
+     */
+    public SimulationServer(int port, SimulationService service) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(requests);
+        server.createContext("/jobs", this::handle);
+    }
+
+    /**
+     * Starts the API and serves it until the process is stopped.
+     * Usage: `SimulationServer [port] [workers] [maxJobs]`.
+     *
+     * @param args The port, the number of worker threads and the most unfinished jobs, all optional.
+     * @throws IOException If the port can't be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxJobs = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        SimulationServer server = new SimulationServer(port, new SimulationService(workers, maxJobs));
+        server.start();
+        System.out.println("Serving simulation jobs on port " + server.getPort());
+    }
+
+    /**
+     * Starts serving requests, each on its own virtual thread.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the port the API listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            // The path splits into "", "jobs", then the ID and the optional "progress"
+            if (path.length == 2) {
+                if (method.equals("POST")) {
+                    submit(exchange);
+                } else {
+                    respond(exchange, 405, error("Use POST to submit a job"));
+                }
+                return;
+            }
+            SimulationJob job = path.length <= 4 ? findJob(path[2]) : null;
+            if (job == null) {
+                respond(exchange, 404, error("No such job"));
+            } else if (path.length == 4 && path[3].equals("progress") && method.equals("GET")) {
+                streamProgress(exchange, job);
+            } else if (path.length == 3 && method.equals("GET")) {
+                respond(exchange, 200, job.toJSON());
+            } else if (path.length == 3 && method.equals("DELETE")) {
+                job.cancel();
+                respond(exchange, 200, job.toJSON());
+            } else {
+                respond(exchange, 405, error("Unsupported request"));
+            }
+        }
+    }
+
+    private SimulationJob findJob(String id) {
+        try {
+            return service.getJob(Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void submit(HttpExchange exchange) throws IOException {
+        JSONObject body;
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY + 1);
+            if (bytes.length > MAX_BODY) {
+                respond(exchange, 413, error("The job request is too long"));
+                return;
+            }
+            body = (JSONObject) new JSONParser().parse(new String(bytes, StandardCharsets.UTF_8));
+        } catch (ParseException | ClassCastException e) {
+            respond(exchange, 400, error("The job request has to be a JSON object"));
+            return;
+        }
+
+        SimulationJob job;
+        try {
+            job = service.submit(getInt(body, "runs", 0),
+                    getInt(body, "battleLimit", Simulator.DEFAULT_BATTLE_LIMIT),
+                    getLong(body, "seed", System.nanoTime()));
+        } catch (IllegalArgumentException | ArithmeticException | ClassCastException e) {
+            respond(exchange, 400, error(e instanceof ClassCastException ? "The job's fields have to be numbers" : e.getMessage()));
+            return;
+        }
+        if (job == null) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 429, error("Too many jobs, try again later"));
+            return;
+        }
+        exchange.getResponseHeaders().set("Location", "/jobs/" + job.getId());
+        respond(exchange, 202, job.toJSON());
+    }
+
+    /**
+     * Sends the job as one JSON line whenever it changes, but at least once per interval, until it is over.
+     * The request's virtual thread just waits in between, so watching a job costs no worker.
+     */
+    private void streamProgress(HttpExchange exchange, SimulationJob job) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        long version = job.getVersion();
+        while (true) {
+            out.write((job.toJSON() + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (job.isFinished()) {
+                return;
+            }
+            try {
+                version = job.awaitChange(version, PROGRESS_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + JSONValue.escape(message) + "\"}";
+    }
+
+    private static int getInt(JSONObject json, String key, int defaultValue) {
+        Object value = json.get(key);
+        return value == null ? defaultValue : Math.toIntExact(((Number) value).longValue());
+    }
+
+    private static long getLong(JSONObject json, String key, long defaultValue) {
+        Object value = json.get(key);
+        return value == null ? defaultValue : ((Number) value).longValue();
+    }
+
+    /**
+     * Stops serving requests and cancels every unfinished job.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        requests.shutdownNow();
+        service.close();
+    }
+}
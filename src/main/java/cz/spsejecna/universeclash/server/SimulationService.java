@@ -0,0 +1,140 @@
+package cz.spsejecna.universeclash.server;
+
+import cz.spsejecna.universeclash.GameData;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SimulationService implements AutoCloseable {
+
+    // Runs played before a job goes back to the end of the queue, so big jobs take turns with small ones
+    public static final int CHUNK_RUNS = 256;
+    public static final int MAX_RUNS = 10_000_000;
+    public static final int MAX_BATTLE_LIMIT = 100_000;
+
+    // Finished jobs are kept for their results until this many have piled up or their histograms take this much memory
+    private static final int RETAINED_JOBS = 1000;
+    private static final long RETAINED_BYTES = 16L * 1024 * 1024;
+
+    private final ExecutorService workers;
+    private final int maxJobs;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ConcurrentHashMap<Long, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<Long> finishedIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    /**
+     * Constructs a service playing simulation jobs on a fixed number of workers.
+     * Every job shares the catalogs loaded once by `GameData`.
+     *
+     * @param workers The number of worker threads, usually the number of cores.
+     * @param maxJobs The most jobs that may be queued or running at once before new ones are refused.
+     */
+    public SimulationService(int workers, int maxJobs) {
+        GameData.get(); // Load the catalogs before the first job
+        this.workers = Executors.newFixedThreadPool(workers);
+        this.maxJobs = maxJobs;
+    }
+
+    /**
+     * Queues a job of simulated runs, unless the service is saturated.
+     *
+     * @param runs The number of runs to play, from 1 to `MAX_RUNS`.
+     * @param battleLimit The number of survived battles after which a run is stopped, from 1 to `MAX_BATTLE_LIMIT`.
+     *                    Every run still plays the `Simulator.OPENING_BATTLES` opening battles.
+     * @param seed The seed of the job.
+     * @return The queued `SimulationJob`, or `null` if `maxJobs` jobs are already queued or running.
+     * @throws IllegalArgumentException If the runs or the battle limit are out of bounds.
+     */
+    public SimulationJob submit(int runs, int battleLimit, long seed) {
+        if (runs < 1 || runs > MAX_RUNS) {
+            throw new IllegalArgumentException("runs must be between 1 and " + MAX_RUNS);
+        }
+        if (battleLimit < 1 || battleLimit > MAX_BATTLE_LIMIT) {
+            throw new IllegalArgumentException("battleLimit must be between 1 and " + MAX_BATTLE_LIMIT);
+        }
+        int current;
+        do {
+            current = pending.get();
+            if (current >= maxJobs) {
+                return null;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+
+        SimulationJob job = new SimulationJob(nextId.getAndIncrement(), runs, battleLimit, seed);
+        jobs.put(job.getId(), job);
+        schedule(job);
+        return job;
+    }
+
+    private void schedule(SimulationJob job) {
+        workers.execute(() -> step(job));
+    }
+
+    private void step(SimulationJob job) {
+        boolean more;
+        try {
+            more = job.runChunk(CHUNK_RUNS);
+        } catch (RuntimeException e) {
+            job.fail(e.toString());
+            more = false;
+        }
+        if (more) {
+            schedule(job);
+        } else {
+            finish(job);
+        }
+    }
+
+    private void finish(SimulationJob job) {
+        pending.decrementAndGet();
+        finishedIds.add(job.getId());
+        retainedBytes.addAndGet(job.getHistogramBytes());
+        while (finishedIds.size() > RETAINED_JOBS || retainedBytes.get() > RETAINED_BYTES) {
+            Long oldest = finishedIds.poll();
+            if (oldest == null) {
+                break;
+            }
+            SimulationJob removed = jobs.remove(oldest);
+            if (removed != null) {
+                retainedBytes.addAndGet(-removed.getHistogramBytes());
+            }
+        }
+    }
+
+    /**
+     * Returns a job by its ID.
+     *
+     * @param id The ID of the job.
+     * @return The `SimulationJob`, or `null` if there is no such job or it was finished long ago.
+     */
+    public SimulationJob getJob(long id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * Returns the number of jobs currently queued or running.
+     *
+     * @return The number of unfinished jobs.
+     */
+    public int getPendingJobs() {
+        return pending.get();
+    }
+
+    /**
+     * Cancels every unfinished job and stops the workers.
+     */
+    @Override
+    public void close() {
+        for (SimulationJob job : jobs.values()) {
+            job.cancel();
+        }
+        workers.shutdownNow();
+    }
+}
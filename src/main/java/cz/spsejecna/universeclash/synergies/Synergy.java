@@ -0,0 +1,206 @@
+package cz.spsejecna.universeclash.synergies;
+
+import cz.spsejecna.universeclash.abilities.AbilityContext;
+import cz.spsejecna.universeclash.abilities.AbilityOperation;
+import cz.spsejecna.universeclash.abilities.AbilityTargetEnum;
+import cz.spsejecna.universeclash.characters.Character;
+
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+public class Synergy {
+    private final int id;
+    private final String name;
+    private final String description;
+    private final long memberMask;
+    private final double chance;
+    private final AbilityTargetEnum target;
+    private final AbilityOperation[] operations;
+
+    /**
+     * Constructs a `Synergy` using the provided `SynergyBuilder`.
+     *
+     * @param builder The `SynergyBuilder` instance containing the desired properties for the synergy.
+     */
+    private Synergy(SynergyBuilder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.description = builder.description;
+        this.memberMask = builder.memberMask;
+        this.chance = builder.chance;
+        this.target = builder.target;
+        this.operations = builder.operations;
+    }
+
+    /**
+     * A static nested builder class for constructing `Synergy` objects.
+     */
+    public static class SynergyBuilder {
+        public int id;
+        public String name;
+        public String description;
+        public long memberMask;
+        public double chance = 1;
+        public AbilityTargetEnum target = AbilityTargetEnum.ALL_ALLIES;
+        public AbilityOperation[] operations = new AbilityOperation[0];
+
+        /**
+         * Sets the unique identifier of the synergy.
+         *
+         * @param id The integer ID of the synergy.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setId(int id) {
+            this.id = id;
+            return this;
+        }
+
+        /**
+         * Sets the name of the synergy.
+         *
+         * @param name The string name of the synergy.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the description of the synergy.
+         *
+         * @param description The string description of what the synergy does.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setDescription(String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Adds a character the party needs for the synergy to be active.
+         *
+         * @param characterId The ID of the required character, below 64.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder addMember(int characterId) {
+            this.memberMask |= 1L << characterId;
+            return this;
+        }
+
+        /**
+         * Sets the chance that the synergy triggers when its turn comes.
+         *
+         * @param chance The chance from 0 to 1.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setChance(double chance) {
+            this.chance = chance;
+            return this;
+        }
+
+        /**
+         * Sets who the synergy affects.
+         *
+         * @param target The `AbilityTargetEnum` of the synergy, seen from the player's team.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setTarget(AbilityTargetEnum target) {
+            this.target = target;
+            return this;
+        }
+
+        /**
+         * Sets the operations applied to every target of the synergy.
+         *
+         * @param operations The compiled operations.
+         * @return The current `SynergyBuilder` instance for method chaining.
+         */
+        public SynergyBuilder setOperations(AbilityOperation[] operations) {
+            this.operations = operations;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new `Synergy` with the properties set in this builder.
+         *
+         * @return A new `Synergy` instance.
+         */
+        public Synergy build() {
+            return new Synergy(this);
+        }
+    }
+
+    /**
+     * Checks whether a party containing the given characters has this synergy.
+     *
+     * @param partyMask The bitmask of the character IDs in the party.
+     * @return `true` if every required character is in the party, `false` otherwise.
+     */
+    public boolean isActive(long partyMask) {
+        return (partyMask & memberMask) == memberMask;
+    }
+
+    /**
+     * Triggers the synergy once, subject to its chance. A synergy has no caster, so its operations
+     * may only use targets and operations that don't depend on one (no `SELF` and no `DAMAGE`).
+     * A single target is picked at random.
+     *
+     * @param party An `ArrayList` of `Character` objects in the player's team.
+     * @param enemies An `ArrayList` of `Character` objects in the enemy team.
+     * @param rand The session's random generator.
+     */
+    public void trigger(ArrayList<Character> party, ArrayList<Character> enemies, RandomGenerator rand) {
+        if (chance < 1 && rand.nextDouble() >= chance) {
+            return;
+        }
+        new AbilityContext(null, party, enemies, team -> team.get(rand.nextInt(team.size())), rand)
+                .apply(target, operations);
+    }
+
+    /**
+     * Returns the unique integer ID of the synergy.
+     *
+     * @return The synergy's ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the synergy.
+     *
+     * @return The synergy's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the description of the synergy.
+     *
+     * @return A string explaining what the synergy does.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the bitmask of the character IDs the synergy needs.
+     *
+     * @return The member mask.
+     */
+    public long getMemberMask() {
+        return memberMask;
+    }
+
+    /**
+     * Returns a string representation of the synergy, including its name and description.
+     *
+     * @return A formatted string showing the synergy's name and description.
+     */
+    @Override
+    public String toString() {
+        return "\n<" + name + "> " + description;
+    }
+}
@@ -0,0 +1,105 @@
+package cz.spsejecna.universeclash.synergies;
+
+import cz.spsejecna.universeclash.PathFinder;
+import cz.spsejecna.universeclash.abilities.AbilityCompiler;
+import cz.spsejecna.universeclash.abilities.AbilityTargetEnum;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.characters.CharacterTemplate;
+import cz.spsejecna.universeclash.effects.EffectRepository;
+import cz.spsejecna.universeclash.exceptions.CatalogLoadException;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SynergyRepository {
+
+    // Character ids are used as bit positions in a party mask
+    public static final int MAX_CHARACTER_ID = Long.SIZE - 1;
+
+    private final ArrayList<Synergy> synergies = new ArrayList<>();
+    // Party composition mask -> synergies active for it, filled in as new compositions show up
+    private final ConcurrentHashMap<Long, Synergy[]> activeByParty = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a `SynergyRepository` and immediately loads all synergy data from the configured JSON file.
+     *
+     * @param effectRepository The `EffectRepository` the synergies' effect names are resolved against.
+     * @param characterRepository The `CharacterRepository` the synergies' member names are resolved against.
+     */
+    public SynergyRepository(EffectRepository effectRepository, CharacterRepository characterRepository) {
+        loadSynergies(new AbilityCompiler(effectRepository), characterRepository);
+    }
+
+    /**
+     * Loads synergy data from a JSON file specified by `PathFinder.synergiesFilePath`.
+     * Every synergy names the characters it needs, which are resolved to a bitmask of their IDs,
+     * and declares what it does with the same target and operations as an ability.
+     * If the file can't be read or parsed, a `CatalogLoadException` is thrown.
+     *
+     * @param abilityCompiler The `AbilityCompiler` used to build the operations.
+     * @param characterRepository The `CharacterRepository` used to resolve member names.
+     */
+    private void loadSynergies(AbilityCompiler abilityCompiler, CharacterRepository characterRepository) {
+        JSONParser parser = new JSONParser();
+
+        try {
+            HashMap<String, Integer> characterIds = new HashMap<>();
+            for (CharacterTemplate template : characterRepository.getTemplates()) {
+                characterIds.put(template.getName(), template.getCharacterID());
+            }
+
+            JSONArray a = (JSONArray) parser.parse(new FileReader(PathFinder.synergiesFilePath));
+
+            for (Object o : a) {
+                JSONObject jsonSynergy = (JSONObject) o;
+                Synergy.SynergyBuilder builder = new Synergy.SynergyBuilder()
+                        .setId(Math.toIntExact((long) jsonSynergy.get("id")))
+                        .setName((String) jsonSynergy.get("name"))
+                        .setDescription((String) jsonSynergy.get("description"))
+                        .setTarget(AbilityTargetEnum.valueOf((String) jsonSynergy.get("target")))
+                        .setOperations(abilityCompiler.compileOperations((JSONArray) jsonSynergy.get("operations")));
+                if (jsonSynergy.get("chance") != null) {
+                    builder.setChance(((Number) jsonSynergy.get("chance")).doubleValue());
+                }
+                for (Object member : (JSONArray) jsonSynergy.get("members")) {
+                    Integer characterId = characterIds.get((String) member);
+                    if (characterId == null || characterId < 0 || characterId > MAX_CHARACTER_ID) {
+                        throw new IllegalStateException("Synergy member can't be used: " + member);
+                    }
+                    builder.addMember(characterId);
+                }
+                synergies.add(builder.build());
+            }
+        } catch (Exception e) {
+            throw new CatalogLoadException("synergies", PathFinder.synergiesFilePath, e);
+        }
+    }
+
+    /**
+     * Returns every synergy that a party with the given composition has. The result for each composition
+     * is computed once and then reused, so the check costs a single lookup from then on.
+     * The returned array is shared and must not be modified.
+     *
+     * @param partyMask The bitmask of the character IDs in the party.
+     * @return The active synergies, each exactly once.
+     */
+    public Synergy[] getActive(long partyMask) {
+        return activeByParty.computeIfAbsent(partyMask, mask -> synergies.stream()
+                .filter(s -> s.isActive(mask))
+                .toArray(Synergy[]::new));
+    }
+
+    /**
+     * Returns all loaded synergies.
+     *
+     * @return A new `ArrayList` of the shared `Synergy` objects.
+     */
+    public ArrayList<Synergy> getSynergies() {
+        return new ArrayList<>(synergies);
+    }
+}
@@ -0,0 +1,14 @@
+package cz.spsejecna.universeclash.turns;
+
+@FunctionalInterface
+public interface PhaseTimer {
+
+    /**
+     * Called after every phase that ran, with the time all of its due handlers took together.
+     *
+     * @param phase The phase that ran.
+     * @param turn The number of the turn, counted from 1.
+     * @param nanos The wall-clock time the phase took, in nanoseconds.
+     */
+    void phaseTimed(TurnPhaseEnum phase, int turn, long nanos);
+}
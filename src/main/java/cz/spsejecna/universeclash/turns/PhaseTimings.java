@@ -0,0 +1,75 @@
+package cz.spsejecna.universeclash.turns;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PhaseTimings implements PhaseTimer {
+
+    private static final TurnPhaseEnum[] PHASES = TurnPhaseEnum.values();
+
+    private final LongAdder[] nanos = new LongAdder[PHASES.length];
+    private final LongAdder[] counts = new LongAdder[PHASES.length];
+
+    /**
+     * Constructs empty timings. They can be shared by games running on different threads.
+     */
+    public PhaseTimings() {
+        for (int i = 0; i < PHASES.length; i++) {
+            nanos[i] = new LongAdder();
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds the time of a single phase to its total.
+     *
+     * @param phase The phase that ran.
+     * @param turn The number of the turn, counted from 1.
+     * @param nanos The wall-clock time the phase took, in nanoseconds.
+     */
+    @Override
+    public void phaseTimed(TurnPhaseEnum phase, int turn, long nanos) {
+        this.nanos[phase.ordinal()].add(nanos);
+        counts[phase.ordinal()].increment();
+    }
+
+    /**
+     * Returns the total time spent in a phase.
+     *
+     * @param phase The phase.
+     * @return The summed time in nanoseconds.
+     */
+    public long getTotalNanos(TurnPhaseEnum phase) {
+        return nanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns how many times a phase ran.
+     *
+     * @param phase The phase.
+     * @return The number of timed runs.
+     */
+    public long getCount(TurnPhaseEnum phase) {
+        return counts[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the total and average time of every phase and its share of the whole turn.
+     *
+     * @return The formatted table, one phase per line.
+     */
+    @Override
+    public String toString() {
+        long total = 0;
+        for (TurnPhaseEnum phase : PHASES) {
+            total += getTotalNanos(phase);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (TurnPhaseEnum phase : PHASES) {
+            long phaseNanos = getTotalNanos(phase);
+            long count = getCount(phase);
+            sb.append(String.format("%-7s %10.1f ms  %8.0f ns/turn  %5.1f%%%n", phase, phaseNanos / 1e6,
+                    count == 0 ? 0.0 : (double) phaseNanos / count, total == 0 ? 0.0 : 100.0 * phaseNanos / total));
+        }
+        return sb.toString();
+    }
+}
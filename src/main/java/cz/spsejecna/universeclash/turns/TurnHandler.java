@@ -0,0 +1,12 @@
+package cz.spsejecna.universeclash.turns;
+
+@FunctionalInterface
+public interface TurnHandler {
+
+    /**
+     * Runs the handler's part of a turn.
+     *
+     * @param turn The number of the current turn of the battle, counted from 1.
+     */
+    void handle(int turn);
+}
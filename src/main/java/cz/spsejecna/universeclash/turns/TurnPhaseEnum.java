@@ -0,0 +1,11 @@
+package cz.spsejecna.universeclash.turns;
+
+public enum TurnPhaseEnum {
+
+    START,
+    PLAYER,
+    ENEMY,
+    END,
+    ITEMS
+
+}
@@ -0,0 +1,112 @@
+package cz.spsejecna.universeclash.turns;
+
+import java.util.ArrayList;
+
+public class TurnPipeline {
+
+    private static final TurnPhaseEnum[] PHASES = TurnPhaseEnum.values();
+
+    private final ArrayList<ArrayList<Entry>> phases = new ArrayList<>(PHASES.length);
+    private int turn = 0;
+    private boolean skipRest = false;
+    private PhaseTimer timer;
+
+    /**
+     * Constructs an empty pipeline at the start of a battle.
+     */
+    public TurnPipeline() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phases.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Registers a handler to run in the given phase on every turn its schedule is due.
+     * Handlers of the same phase run in the order they were registered.
+     *
+     * @param phase The `TurnPhaseEnum` the handler belongs to.
+     * @param schedule The `TurnSchedule` of the turns it runs on.
+     * @param handler The `TurnHandler` to run.
+     */
+    public void register(TurnPhaseEnum phase, TurnSchedule schedule, TurnHandler handler) {
+        phases.get(phase.ordinal()).add(new Entry(schedule, handler));
+    }
+
+    /**
+     * Sets the hook told how long every phase took, or `null` to stop timing.
+     * Without a timer no clock is read at all.
+     *
+     * @param timer The `PhaseTimer` to report to.
+     */
+    public void setPhaseTimer(PhaseTimer timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Resets the turn count at the start of a battle, so the schedules count from its first turn.
+     */
+    public void reset() {
+        turn = 0;
+    }
+
+    /**
+     * Returns the number of the current turn, or of the last one once it's over.
+     *
+     * @return The turn number, counted from 1, or 0 before the first turn of a battle.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Skips every handler left in the current turn, e.g. because the game just ended.
+     */
+    public void skipRestOfTurn() {
+        skipRest = true;
+    }
+
+    /**
+     * Plays the next turn, running the phases in order and in each of them only the handlers due this turn.
+     */
+    public void runTurn() {
+        turn++;
+        skipRest = false;
+        for (TurnPhaseEnum phase : PHASES) {
+            if (skipRest) {
+                return;
+            }
+            ArrayList<Entry> entries = phases.get(phase.ordinal());
+            if (timer == null) {
+                runPhase(entries);
+            } else {
+                long start = System.nanoTime();
+                runPhase(entries);
+                timer.phaseTimed(phase, turn, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void runPhase(ArrayList<Entry> entries) {
+        for (Entry entry : entries) {
+            if (skipRest) {
+                return;
+            }
+            if (entry.schedule.isDue(turn)) {
+                entry.handler.handle(turn);
+            }
+        }
+    }
+
+    /**
+     * A registered handler together with the turns it runs on.
+     */
+    private static class Entry {
+        private final TurnSchedule schedule;
+        private final TurnHandler handler;
+
+        private Entry(TurnSchedule schedule, TurnHandler handler) {
+            this.schedule = schedule;
+            this.handler = handler;
+        }
+    }
+}
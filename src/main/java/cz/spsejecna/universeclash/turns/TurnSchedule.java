@@ -0,0 +1,64 @@
+package cz.spsejecna.universeclash.turns;
+
+public final class TurnSchedule {
+
+    private static final TurnSchedule EVERY_TURN = new TurnSchedule(1, 1);
+
+    private final int first;
+    private final int period; // 0 if the handler only runs on its first turn
+
+    private TurnSchedule(int first, int period) {
+        this.first = first;
+        this.period = period;
+    }
+
+    /**
+     * Returns a schedule running on every turn.
+     *
+     * @return The shared every-turn `TurnSchedule`.
+     */
+    public static TurnSchedule everyTurn() {
+        return EVERY_TURN;
+    }
+
+    /**
+     * Returns a schedule running on every n-th turn of a battle, i.e. on turns n, 2n, 3n...
+     *
+     * @param period The number of turns between two runs.
+     * @return The new `TurnSchedule`.
+     * @throws IllegalArgumentException If the period isn't positive.
+     */
+    public static TurnSchedule every(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("A turn period has to be positive, got " + period);
+        }
+        return new TurnSchedule(period, period);
+    }
+
+    /**
+     * Returns a schedule running only once a battle, on the given turn.
+     *
+     * @param turn The turn to run on, counted from 1.
+     * @return The new `TurnSchedule`.
+     * @throws IllegalArgumentException If the turn isn't positive.
+     */
+    public static TurnSchedule onTurn(int turn) {
+        if (turn < 1) {
+            throw new IllegalArgumentException("Turns are counted from 1, got " + turn);
+        }
+        return new TurnSchedule(turn, 0);
+    }
+
+    /**
+     * Checks whether a handler with this schedule is due on the given turn.
+     *
+     * @param turn The number of the turn, counted from 1.
+     * @return `true` if the handler runs on this turn, `false` otherwise.
+     */
+    public boolean isDue(int turn) {
+        if (period == 0) {
+            return turn == first;
+        }
+        return turn >= first && (turn - first) % period == 0;
+    }
+}
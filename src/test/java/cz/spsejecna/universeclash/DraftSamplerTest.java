@@ -0,0 +1,57 @@
+package cz.spsejecna.universeclash;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class DraftSamplerTest {
+
+    @Test
+    public void distinctAndNotExcludedTest(){
+        DraftSampler sampler = new DraftSampler(new int[]{0, 1, 2, 3, 4, 5, 6, 7});
+        SplittableRandom random = new SplittableRandom(3);
+        int[] out = new int[3];
+        for (int i = 0; i < 200; i++) {
+            sampler.clearExclusions();
+            sampler.exclude(2);
+            sampler.exclude(5);
+            assertEquals(sampler.sample(3, out, random), 3);
+            HashSet<Integer> seen = new HashSet<>();
+            for (int id : out) {
+                assertTrue(seen.add(id));
+                assertFalse(id == 2 || id == 5);
+            }
+        }
+    }
+
+    @Test
+    public void poolRunsOutTest(){
+        DraftSampler sampler = new DraftSampler(new int[]{0, 1, 2, 3});
+        sampler.exclude(0);
+        sampler.exclude(3);
+        int[] out = new int[3];
+        assertEquals(sampler.sample(3, out, new SplittableRandom(1)), 2);
+        assertEquals(out[0] + out[1], 3);
+    }
+
+    @Test
+    public void weightedTest(){
+        DraftSampler sampler = new DraftSampler(new AliasTable(new int[]{4, 5, 6}, new double[]{1, 0, 3}));
+        SplittableRandom random = new SplittableRandom(7);
+        int[] out = new int[1];
+        int[] counts = new int[7];
+        for (int i = 0; i < 4000; i++) {
+            assertEquals(sampler.sample(1, out, random), 1);
+            counts[out[0]]++;
+        }
+        assertEquals(counts[5], 0);
+        assertTrue(counts[6] > 2 * counts[4]);
+        // The zero weight ID is never drawn, even when it is the only one left
+        assertEquals(sampler.sample(3, new int[3], random), 2);
+    }
+}
@@ -0,0 +1,42 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.controllers.InputSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.fail;
+
+public class FightTest {
+
+    private final CharacterRepository characterRepository = new CharacterRepository();
+    private final ArrayList<Character> team = new ArrayList<>(List.of(
+            characterRepository.obtainCharacter(0), characterRepository.obtainCharacter(1)));
+
+    @Test
+    public void resolveTargetTest(){
+        assertEquals(Fight.resolveTarget(team, "2"), team.get(1));
+        assertEquals(Fight.resolveTarget(team, "default"), team.get(0));
+        assertNull(Fight.resolveTarget(team, "0"));
+        assertNull(Fight.resolveTarget(team, "3"));
+        assertNull(Fight.resolveTarget(team, "Nobody"));
+    }
+
+    @Test
+    public void repromptTest(){
+        Fight fight = new Fight(InputSource.of("Nobody 7 Leafy"));
+        assertEquals(fight.getTarget(team), team.get(1));
+        try {
+            new Fight(InputSource.of("Nobody")).getTarget(team);
+            fail("A typo must not keep the prompt spinning once the input ends");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+}
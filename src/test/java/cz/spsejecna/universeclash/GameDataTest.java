@@ -0,0 +1,19 @@
+package cz.spsejecna.universeclash;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class GameDataTest {
+    @Test
+    public void sharedSnapshotTest(){
+        GameData gameData = GameData.get();
+        assertSame(gameData, GameData.get());
+        assertSame(gameData.getEffectRepository(), GameData.get().getEffectRepository());
+
+        assertEquals(gameData.getCharacterRepository().getCharacters().size(), 13);
+        assertEquals(gameData.getCardRepository().getCards().size(), 10);
+        assertEquals(gameData.getItemRepository().getItems().size(), 8);
+    }
+}
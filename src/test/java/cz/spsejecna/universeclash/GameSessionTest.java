@@ -0,0 +1,40 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.controllers.ScriptedController;
+import cz.spsejecna.universeclash.exceptions.GameStateException;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class GameSessionTest {
+
+    @Test
+    public void failureStaysInSessionTest(){
+        // The script runs out on the very first decision
+        Events events = new Events(new ScriptedController(), new PrintStream(OutputStream.nullOutputStream()), new SplittableRandom(1));
+        SessionResult result = new GameSession(events).play(5);
+        assertTrue(result.isFailed());
+        assertEquals(result.getBattles(), 0);
+        assertTrue(result.getFailure().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void negativeSPTest(){
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        int sp = ch.getCurrentSP();
+        try {
+            ch.changeSP(-sp - 1);
+            fail("Spending SP the character doesn't have must end the game");
+        } catch (GameStateException e) {
+            assertEquals(ch.getCurrentSP(), sp);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package cz.spsejecna.universeclash;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.Effect;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RendererTest {
+
+    private final CharacterRepository characterRepository = new CharacterRepository();
+    private final ArrayList<Character> party = new ArrayList<>(List.of(characterRepository.obtainCharacter(0)));
+    private final ArrayList<Character> enemies = new ArrayList<>(List.of(
+            characterRepository.obtainCharacter(1), characterRepository.obtainCharacter(2)));
+
+    private static String expectedFrame(ArrayList<Character> party, ArrayList<Character> enemies) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes);
+        out.println("Your team:\n" + party);
+        out.println("\n\nEnemy team:\n" + enemies);
+        return bytes.toString();
+    }
+
+    @Test
+    public void dirtyRedrawTest(){
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Renderer renderer = new Renderer(new PrintStream(bytes));
+
+        renderer.renderFight(party, enemies);
+        assertEquals(bytes.toString(), expectedFrame(party, enemies));
+        assertFalse(party.get(0).isDirty());
+
+        enemies.get(1).changeHP(-2);
+        party.get(0).addEffect(Effect.STRONG, 1);
+        assertTrue(enemies.get(1).isDirty());
+        assertTrue(party.get(0).isDirty());
+        bytes.reset();
+        renderer.renderFight(party, enemies);
+        assertEquals(bytes.toString(), expectedFrame(party, enemies));
+
+        party.get(0).removeEffect(Effect.STRONG);
+        bytes.reset();
+        renderer.renderFight(party, enemies);
+        assertEquals(bytes.toString(), expectedFrame(party, enemies));
+    }
+
+    @Test
+    public void quietTest(){
+        Renderer renderer = Renderer.quiet();
+        assertTrue(renderer.isQuiet());
+        renderer.renderFight(party, enemies);
+        // Nothing was rendered, so nothing was marked clean either
+        assertTrue(party.get(0).isDirty());
+    }
+}
@@ -0,0 +1,44 @@
+package cz.spsejecna.universeclash;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class SimulatorTest {
+
+    @Test
+    public void everyRunCountedTest(){
+        long[] histogram = Simulator.simulate(20, 3, 2, 1);
+        long runs = 0;
+        for (long count : histogram) {
+            runs += count;
+        }
+        assertEquals(histogram.length, 4);
+        assertEquals(runs, 20);
+    }
+
+    @Test
+    public void limitBelowOpeningBattlesTest(){
+        long[] histogram = Simulator.simulate(20, 1, 2, 1);
+        long runs = 0;
+        for (long count : histogram) {
+            runs += count;
+        }
+        assertEquals(histogram.length, Simulator.OPENING_BATTLES + 1);
+        assertEquals(runs, 20);
+    }
+
+    @Test
+    public void reproducibleFromSeedTest(){
+        long[] single = Simulator.simulate(30, 5, 1, 42);
+        long[] parallel = Simulator.simulate(30, 5, 4, 42);
+        assertTrue(Arrays.equals(single, parallel));
+        for (int run = 0; run < 10; run++) {
+            long seed = Simulator.runSeed(7, run);
+            assertEquals(Simulator.playRun(seed, 5), Simulator.playRun(seed, 5));
+        }
+    }
+}
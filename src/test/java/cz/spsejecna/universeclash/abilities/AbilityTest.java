@@ -0,0 +1,45 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.Effect;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class AbilityTest {
+
+    @Test
+    public void compiledAbilityTest(){
+        CharacterRepository characterRepository = new CharacterRepository();
+        Character doombringer = characterRepository.obtainCharacter(2);
+        Character target = characterRepository.obtainCharacter(0);
+        ArrayList<Character> allies = new ArrayList<>(List.of(doombringer));
+        ArrayList<Character> enemies = new ArrayList<>(List.of(target));
+
+        assertEquals(doombringer.getAbility1().getCost(), 2);
+        assertEquals(doombringer.getAbility1().getTarget(), AbilityTargetEnum.ENEMY);
+        assertTrue(doombringer.getAbility1().use(doombringer, allies, enemies, team -> team.get(0), new Random(0)));
+        assertEquals(target.getCurrentHP(), target.getMaxHP() - 3);
+        assertTrue(target.hasEffect(Effect.STUN));
+        assertEquals(doombringer.getCurrentSP(), doombringer.getMaxSP() - 2);
+    }
+
+    @Test
+    public void notEnoughSPTest(){
+        CharacterRepository characterRepository = new CharacterRepository();
+        Character flutter = characterRepository.obtainCharacter(11);
+        ArrayList<Character> allies = new ArrayList<>(List.of(flutter));
+        ArrayList<Character> enemies = new ArrayList<>(List.of(characterRepository.obtainCharacter(0)));
+
+        flutter.changeSP(-flutter.getCurrentSP());
+        assertFalse(flutter.getAbility2().use(flutter, allies, enemies, team -> team.get(0), new Random(0)));
+        assertFalse(flutter.hasEffect(Effect.NULLIFY));
+    }
+}
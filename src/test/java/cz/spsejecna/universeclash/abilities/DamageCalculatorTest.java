@@ -0,0 +1,41 @@
+package cz.spsejecna.universeclash.abilities;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.Effect;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class DamageCalculatorTest {
+
+    @Test
+    public void modifierTest(){
+        CharacterRepository characterRepository = new CharacterRepository();
+        Character attacker = characterRepository.obtainCharacter(0);
+        Character target = characterRepository.obtainCharacter(1);
+
+        assertEquals(DamageCalculator.resolveDamage(attacker.getEffects(), target.getEffects(), 2), 2);
+        attacker.addEffect(Effect.STRONG, 1);
+        assertEquals(DamageCalculator.resolveDamage(attacker.getEffects(), target.getEffects(), 2), 3);
+        target.addEffect(Effect.TOUGH, 1);
+        assertEquals(DamageCalculator.resolveDamage(attacker.getEffects(), target.getEffects(), 2), 2);
+        target.addEffect(Effect.NULLIFY, 1);
+        assertEquals(DamageCalculator.resolveDamage(attacker.getEffects(), target.getEffects(), 2), 0);
+        target.removeEffect(Effect.NULLIFY);
+        assertEquals(DamageCalculator.resolveDamage(attacker.getEffects(), target.getEffects(), 2), 2);
+    }
+
+    @Test
+    public void bleedBlocksHealTest(){
+        Character target = new CharacterRepository().obtainCharacter(0);
+        target.changeHP(-2);
+        int hp = target.getCurrentHP();
+        target.addEffect(Effect.BLEED, 1);
+        DamageCalculator.heal(target, 2);
+        assertEquals(target.getCurrentHP(), hp);
+        target.removeEffect(Effect.BLEED);
+        DamageCalculator.heal(target, 2);
+        assertEquals(target.getCurrentHP(), hp + 2);
+    }
+}
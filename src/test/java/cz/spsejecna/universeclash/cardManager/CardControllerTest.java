@@ -0,0 +1,23 @@
+package cz.spsejecna.universeclash.cardManager;
+
+import cz.spsejecna.universeclash.cards.Card;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class CardControllerTest {
+
+    @Test
+    public void cardCountTest(){
+        CardController cardController = new CardController();
+        cardController.addCard(Card.GIFT);
+        cardController.addCard(Card.GIFT);
+        cardController.addCard(Card.SNOWBALLING);
+
+        assertEquals(cardController.getCards().size(), 3);
+        assertEquals(cardController.numberOfGiftCards(), 6);
+        assertEquals(cardController.numberOfSnowballingCards(), 1);
+        assertEquals(cardController.numberOfLastCards(), 0);
+        assertEquals(cardController.numberOfCards(42), 0);
+    }
+}
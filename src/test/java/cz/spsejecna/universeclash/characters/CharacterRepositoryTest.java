@@ -3,7 +3,9 @@ package cz.spsejecna.universeclash.characters;
 import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
 
 public class CharacterRepositoryTest {
     @Test
@@ -18,4 +20,17 @@ public class CharacterRepositoryTest {
         Character cha = characterRepository.obtainCharacter(25);
         assertNull(cha);
     }
+
+    @Test
+    public void sharedTemplateTest(){
+        CharacterRepository characterRepository = new CharacterRepository();
+        Character first = characterRepository.obtainCharacter(2);
+        Character second = characterRepository.obtainCharacter(2);
+        assertNotSame(first, second);
+        assertSame(first.getTemplate(), second.getTemplate());
+        assertSame(first.getAbility1(), second.getAbility1());
+
+        first.changeHP(-5);
+        assertEquals(second.getCurrentHP(), second.getTemplate().getBaseHP());
+    }
 }
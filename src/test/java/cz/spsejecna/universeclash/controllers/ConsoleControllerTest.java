@@ -0,0 +1,24 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.GameData;
+import cz.spsejecna.universeclash.items.Item;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Collection;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ConsoleControllerTest {
+
+    @Test
+    public void shopRepromptTest(){
+        Collection<Item> stock = GameData.get().getItemRepository().getItems().values();
+        int id = stock.iterator().next().getItemId();
+        ConsoleController controller = new ConsoleController(InputSource.of("oops\n" + id),
+                new PrintStream(OutputStream.nullOutputStream()));
+        // A typo asks again instead of ending the game
+        assertEquals(controller.chooseShopItem(stock, 5), id);
+    }
+}
@@ -0,0 +1,49 @@
+package cz.spsejecna.universeclash.controllers;
+
+import org.junit.Test;
+
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class InputSourceTest {
+
+    @Test
+    public void tokensTest(){
+        InputSource in = InputSource.of("  12 yes\r\n-3\tLeafy\n");
+        assertTrue(in.hasNextInt());
+        assertEquals(in.nextInt(), 12);
+        assertFalse(in.hasNextInt());
+        assertEquals(in.next(), "yes");
+        assertEquals(in.nextInt(), -3);
+        assertEquals(in.next(), "Leafy");
+        assertFalse(in.hasNext());
+        try {
+            in.next();
+            fail("The end of the script must end the game instead of blocking");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void invalidAnswerTest(){
+        InputSource in = InputSource.of("abc rest of line\n7\n99999999999 5");
+        try {
+            in.nextInt();
+            fail("A word isn't a number");
+        } catch (InputMismatchException e) {
+            // expected
+        }
+        // The invalid answer is still there for the caller to throw away with its line
+        assertEquals(in.nextLine(), "abc rest of line");
+        assertEquals(in.nextInt(), 7);
+        assertFalse(in.hasNextInt());
+        in.next();
+        assertEquals(in.nextInt(), 5);
+    }
+}
@@ -0,0 +1,30 @@
+package cz.spsejecna.universeclash.controllers;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.partyManager.PartyPicker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class ScriptedControllerTest {
+
+    @Test
+    public void headlessDraftTest(){
+        ScriptedController controller = new ScriptedController(1, 2);
+        PartyPicker partyPicker = new PartyPicker(controller, new SplittableRandom(1));
+
+        int id = partyPicker.generatePicks(new ArrayList<Character>(), true);
+        assertTrue(id >= 0 && id < 13);
+        assertEquals(controller.chooseAction(null), 2);
+        assertTrue(controller.isFinished());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exhaustedScriptTest(){
+        new ScriptedController().chooseAction(null);
+    }
+}
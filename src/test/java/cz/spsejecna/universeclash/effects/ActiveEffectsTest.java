@@ -0,0 +1,104 @@
+package cz.spsejecna.universeclash.effects;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ActiveEffectsTest {
+
+    private static final String STACKING_EFFECTS = "src/test/java/cz/spsejecna/universeclash/data/stackingEffects.json";
+
+    @Test
+    public void effectMaskTest(){
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        ch.addEffect(Effect.FIRE, 2);
+        ch.addEffect(Effect.FIRE, 1);
+        ch.addEffect(Effect.STRONG, 1);
+        assertEquals(ch.getEffectsSize(), 2);
+        assertEquals(ch.getEffects().getDuration(Effect.FIRE), 3);
+        assertTrue(ch.hasEffect(Effect.STRONG));
+
+        ch.removeDebuffs();
+        assertFalse(ch.hasEffect(Effect.FIRE));
+        assertTrue(ch.hasEffect(Effect.STRONG));
+    }
+
+    @Test
+    public void schedulerExpiryTest(){
+        EffectScheduler scheduler = new EffectScheduler();
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        ch.getEffects().setScheduler(scheduler);
+        ch.addEffect(Effect.STUN, 1);
+        ch.addEffect(Effect.FIRE, 99);
+
+        scheduler.advance();
+        assertEquals(ch.getEffects().getDuration(Effect.STUN), 1);
+        ch.addEffect(Effect.STUN, 2); // refreshed, the first expiry entry must be ignored
+        scheduler.advance();
+        assertTrue(ch.hasEffect(Effect.STUN));
+        scheduler.advance();
+        scheduler.advance();
+        assertFalse(ch.hasEffect(Effect.STUN));
+
+        while (scheduler.now() < 100) {
+            assertTrue(ch.hasEffect(Effect.FIRE));
+            scheduler.advance();
+        }
+        assertFalse(ch.hasEffect(Effect.FIRE));
+    }
+
+    @Test
+    public void declaredBehaviorTest(){
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        ch.addEffect(Effect.FIRE, 5);
+        ch.addEffect(Effect.STRONG, 5);
+        ch.getEffects().tick();
+        assertEquals(ch.getCurrentHP(), ch.getMaxHP() - 1);
+
+        // Poison never takes the last HP
+        ch.removeEffect(Effect.FIRE);
+        ch.changeHP(2 - ch.getCurrentHP());
+        ch.addEffect(Effect.POISON, 5);
+        ch.getEffects().tick();
+        ch.getEffects().tick();
+        assertEquals(ch.getCurrentHP(), 1);
+
+        // Pure cleanses debuffs as soon as it is applied
+        ch.addEffect(Effect.PURE, 1);
+        assertFalse(ch.hasEffect(Effect.POISON));
+        assertTrue(ch.hasEffect(Effect.STRONG));
+        assertEquals(ch.getEffects().getDamageBonus(), 1);
+    }
+
+    @Test
+    public void stackingTest(){
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        for (int i = 0; i < 10; i++) {
+            ch.addEffect(Effect.STRONG, 1);
+            ch.addEffect(Effect.FIRE, 1);
+        }
+        // The shipped effects only refresh
+        assertEquals(ch.getEffects().getStacks(Effect.STRONG), 1);
+        assertEquals(ch.getEffects().getDamageBonus(), 1);
+        assertEquals(ch.getEffects().getStacks(Effect.FIRE), 1);
+        assertEquals(ch.getEffectsSize(), 2);
+
+        // "Stacker" of the test catalog stacks up to three times, "Refresher" only refreshes
+        EffectRepository repository = new EffectRepository(STACKING_EFFECTS);
+        ActiveEffects effects = new ActiveEffects(ch, repository);
+        int stacker = repository.getEffectId("Stacker");
+        int refresher = repository.getEffectId("Refresher");
+        for (int i = 0; i < 10; i++) {
+            effects.add(stacker, 1);
+            effects.add(refresher, 1);
+        }
+        assertEquals(effects.getStacks(stacker), 3);
+        assertEquals(effects.getDamageBonus(), 3);
+        assertEquals(effects.getStacks(refresher), 1);
+        assertEquals(effects.size(), 2);
+    }
+}
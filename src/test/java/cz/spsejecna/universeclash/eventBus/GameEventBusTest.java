@@ -0,0 +1,45 @@
+package cz.spsejecna.universeclash.eventBus;
+
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.Effect;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class GameEventBusTest {
+
+    @Test
+    public void dispatchTest(){
+        GameEventBus bus = new GameEventBus();
+        ArrayList<String> log = new ArrayList<>();
+        bus.subscribe(GameEventTypeEnum.TURN_END, event -> {
+            log.add("turn " + event.getNumber());
+            bus.publishBattleStart(7);
+            // The nested event must not have overwritten this one
+            log.add("still turn " + event.getNumber());
+        });
+        bus.subscribe(GameEventTypeEnum.BATTLE_START, event -> log.add("battle " + event.getNumber()));
+        bus.publishTurnEnd(3);
+        bus.publishDamage(null, 2);
+        assertEquals(log, List.of("turn 3", "battle 7", "still turn 3"));
+    }
+
+    @Test
+    public void characterPublishesTest(){
+        GameEventBus bus = new GameEventBus();
+        ArrayList<String> log = new ArrayList<>();
+        bus.subscribe(GameEventTypeEnum.DAMAGE, event -> log.add("damage " + event.getAmount()));
+        bus.subscribe(GameEventTypeEnum.EFFECT_APPLIED, event -> log.add("effect " + event.getEffectId()));
+        Character ch = new CharacterRepository().obtainCharacter(0);
+        ch.setEventBus(bus);
+        ch.changeHP(-2);
+        ch.changeHP(1);
+        ch.addEffect(Effect.FIRE, 1);
+        ch.changeHP(-100);
+        assertEquals(log, List.of("damage 2", "effect " + Effect.FIRE, "damage " + (ch.getMaxHP() - 1)));
+    }
+}
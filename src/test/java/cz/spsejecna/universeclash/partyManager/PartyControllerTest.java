@@ -0,0 +1,40 @@
+package cz.spsejecna.universeclash.partyManager;
+
+import cz.spsejecna.universeclash.characters.Character;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class PartyControllerTest {
+
+    @Test
+    public void liveRosterTest(){
+        PartyController partyController = new PartyController();
+        partyController.addNewMember(0);
+        partyController.addNewEnemy(1);
+        partyController.addNewEnemy(2);
+
+        Character first = partyController.getEnemyParty().get(0);
+        first.changeHP(-first.getCurrentHP());
+        // Killing an already dead character doesn't count twice
+        first.changeHP(-1);
+        assertFalse(partyController.wonBattle());
+        assertEquals(partyController.getEnemyParty().size(), 1);
+        assertTrue(partyController.activateSnowballing());
+        assertFalse(partyController.activateSnowballing());
+
+        Character second = partyController.getEnemyParty().get(0);
+        second.changeMaxHP(-second.getMaxHP());
+        assertTrue(partyController.wonBattle());
+        assertTrue(partyController.getEnemyParty().isEmpty());
+
+        Character member = partyController.getParty().get(0);
+        assertTrue(partyController.isAnyoneAlive());
+        member.changeHP(-member.getCurrentHP());
+        assertFalse(partyController.isAnyoneAlive());
+        partyController.removeCorpses();
+        assertEquals(partyController.getPartyMask(), 0L);
+    }
+}
@@ -0,0 +1,84 @@
+package cz.spsejecna.universeclash.replay;
+
+import cz.spsejecna.universeclash.Simulator;
+import cz.spsejecna.universeclash.exceptions.ReplayException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+public class ReplayTest {
+
+    private static byte[] record(long seed, int battleLimit) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(bytes), seed, battleLimit)) {
+            assertEquals(Replay.record(seed, battleLimit, writer), Simulator.playRun(seed, battleLimit));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int verify(byte[] replay) throws Exception {
+        try (ReplayReader reader = new ReplayReader(Channels.newChannel(new ByteArrayInputStream(replay)))) {
+            return Replay.verify(reader);
+        }
+    }
+
+    @Test
+    public void recordAndReplayTest() throws Exception {
+        for (long seed = 0; seed < 50; seed++) {
+            byte[] replay = record(seed, 30);
+            assertEquals(verify(replay), Simulator.playRun(seed, 30));
+        }
+    }
+
+    @Test
+    public void divergedReplayTest() throws Exception {
+        byte[] replay = record(3, 30);
+        // The header is 12 bytes and the battle limit, then the first decision's tag and value
+        replay[14] ^= 1;
+        try {
+            verify(replay);
+            fail("A replay that doesn't match the game must not verify");
+        } catch (ReplayException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void failedWriteTest() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(bytes), 3, 30) {
+            @Override
+            public void writeDecision(DecisionTypeEnum type, int turn, int value) throws IOException {
+                throw new IOException("Disk full");
+            }
+        }) {
+            Replay.record(3, 30, writer);
+            fail("A run whose decisions couldn't be written must not be recorded");
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "Disk full");
+        }
+    }
+
+    @Test
+    public void deltaEscapeTest() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(bytes), 1, 1)) {
+            writer.writeDecision(DecisionTypeEnum.ACTION, 5, 2);
+            writer.writeDecision(DecisionTypeEnum.TARGET, 1000, 300);
+            writer.writeEnd(1000, 7, -1L);
+        }
+        try (ReplayReader reader = new ReplayReader(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))) {
+            assertEquals(reader.readDecision(DecisionTypeEnum.ACTION, 5), 2);
+            assertEquals(reader.readDecision(DecisionTypeEnum.TARGET, 1000), 300);
+            assertEquals(reader.readEnd(), 1000);
+            assertEquals(reader.getEndBattles(), 7);
+            assertEquals(reader.getEndStateHash(), -1L);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package cz.spsejecna.universeclash.server;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class GameServerTest {
+
+    @Test(timeout = 60_000)
+    public void concurrentSessionsTest() throws Exception {
+        try (GameServer server = new GameServer(0, 2)) {
+            Thread acceptor = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (Exception ignored) {
+                    // Closing the server ends the accept loop
+                }
+            });
+            acceptor.start();
+
+            LoadGenerator generator = new LoadGenerator(server.getPort(), 0);
+            generator.run(20);
+
+            assertEquals(generator.getFinished(), 20);
+            assertEquals(generator.getFailed(), 0);
+            assertEquals(server.getFinishedSessions(), 20);
+        }
+    }
+}
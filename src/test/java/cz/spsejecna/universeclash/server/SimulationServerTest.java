@@ -0,0 +1,74 @@
+package cz.spsejecna.universeclash.server;
+
+import cz.spsejecna.universeclash.Simulator;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class SimulationServerTest {
+
+    @Test(timeout = 60_000)
+    public void jobMatchesSimulatorTest() throws Exception {
+        try (SimulationService service = new SimulationService(2, 4)) {
+            SimulationJob job = service.submit(300, 20, 7);
+            while (!job.isFinished()) {
+                job.awaitChange(job.getVersion(), 1000);
+            }
+            assertEquals(job.getState(), JobStateEnum.DONE);
+            assertEquals(job.getCompleted(), 300);
+            assertTrue(Arrays.equals(job.getHistogram(), Simulator.simulate(300, 20, 1, 7)));
+
+            SimulationJob shortJob = service.submit(50, 1, 7);
+            while (!shortJob.isFinished()) {
+                shortJob.awaitChange(shortJob.getVersion(), 1000);
+            }
+            assertEquals(shortJob.getState(), JobStateEnum.DONE);
+            assertTrue(Arrays.equals(shortJob.getHistogram(), Simulator.simulate(50, 1, 1, 7)));
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void saturationAndCancelTest() throws Exception {
+        try (SimulationServer server = new SimulationServer(0, new SimulationService(1, 1))) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            String jobs = "http://127.0.0.1:" + server.getPort() + "/jobs";
+            HttpRequest big = HttpRequest.newBuilder(URI.create(jobs))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"runs\": 10000000, \"battleLimit\": 10, \"seed\": 1}")).build();
+
+            HttpResponse<String> accepted = client.send(big, HttpResponse.BodyHandlers.ofString());
+            assertEquals(accepted.statusCode(), 202);
+            HttpResponse<String> refused = client.send(big, HttpResponse.BodyHandlers.ofString());
+            assertEquals(refused.statusCode(), 429);
+            assertEquals(refused.headers().firstValue("Retry-After").orElse(""), "1");
+
+            String location = accepted.headers().firstValue("Location").orElseThrow();
+            HttpResponse<String> cancelled = client.send(HttpRequest.newBuilder(URI.create(jobs.replace("/jobs", location)))
+                    .DELETE().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(cancelled.statusCode(), 200);
+            assertTrue(cancelled.body().contains("\"state\":\"CANCELLED\""));
+
+            HttpResponse<String> invalid = client.send(HttpRequest.newBuilder(URI.create(jobs))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"runs\": 0}")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(invalid.statusCode(), 400);
+        }
+    }
+
+    @Test
+    public void failureIsValidJSONTest() throws Exception {
+        SimulationJob job = new SimulationJob(1, 10, 10, 1);
+        job.fail("java.lang.IllegalStateException: broken\n\tat \"somewhere\"\u0001");
+        JSONObject json = (JSONObject) new JSONParser().parse(job.toJSON());
+        assertEquals(json.get("state"), "FAILED");
+        assertEquals(json.get("failure"), "java.lang.IllegalStateException: broken\n\tat \"somewhere\"\u0001");
+    }
+}
@@ -0,0 +1,47 @@
+package cz.spsejecna.universeclash.synergies;
+
+import cz.spsejecna.universeclash.GameData;
+import cz.spsejecna.universeclash.characters.Character;
+import cz.spsejecna.universeclash.characters.CharacterRepository;
+import cz.spsejecna.universeclash.effects.Effect;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class SynergyRepositoryTest {
+
+    @Test
+    public void loadSynergiesTest(){
+        SynergyRepository synergyRepository = GameData.get().getSynergyRepository();
+        assertEquals(synergyRepository.getSynergies().size(), 4);
+
+        long isaacAndDoombringer = 1L << 9 | 1L << 2;
+        Synergy[] active = synergyRepository.getActive(isaacAndDoombringer | 1L << 0);
+        assertEquals(active.length, 1);
+        assertEquals(active[0].getName(), "Iron Wall");
+        assertSame(synergyRepository.getActive(isaacAndDoombringer | 1L << 0), active);
+        assertEquals(synergyRepository.getActive(1L << 9).length, 0);
+    }
+
+    @Test
+    public void triggerTest(){
+        CharacterRepository characterRepository = GameData.get().getCharacterRepository();
+        Character isaac = characterRepository.obtainCharacter(9);
+        Character doombringer = characterRepository.obtainCharacter(2);
+        ArrayList<Character> party = new ArrayList<>(List.of(isaac, doombringer));
+        ArrayList<Character> enemies = new ArrayList<>(List.of(characterRepository.obtainCharacter(0)));
+
+        for (Synergy synergy : GameData.get().getSynergyRepository().getActive(1L << 9 | 1L << 2)) {
+            synergy.trigger(party, enemies, new SplittableRandom(1));
+        }
+        assertTrue(isaac.hasEffect(Effect.TOUGH));
+        assertTrue(doombringer.hasEffect(Effect.TOUGH));
+        assertEquals(isaac.getEffects().getDuration(Effect.TOUGH), 2);
+    }
+}
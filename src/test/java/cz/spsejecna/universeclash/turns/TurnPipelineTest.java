@@ -0,0 +1,45 @@
+package cz.spsejecna.universeclash.turns;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class TurnPipelineTest {
+
+    @Test
+    public void scheduleTest(){
+        TurnPipeline pipeline = new TurnPipeline();
+        ArrayList<String> log = new ArrayList<>();
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.every(2), turn -> log.add("even " + turn));
+        pipeline.register(TurnPhaseEnum.START, TurnSchedule.everyTurn(), turn -> log.add("start " + turn));
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.onTurn(3), turn -> log.add("third " + turn));
+        for (int i = 0; i < 4; i++) {
+            pipeline.runTurn();
+        }
+        assertEquals(log, List.of("start 1", "start 2", "even 2", "start 3", "third 3", "start 4", "even 4"));
+
+        log.clear();
+        pipeline.reset();
+        pipeline.runTurn();
+        assertEquals(log, List.of("start 1"));
+    }
+
+    @Test
+    public void skipAndTimingTest(){
+        TurnPipeline pipeline = new TurnPipeline();
+        ArrayList<String> log = new ArrayList<>();
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.everyTurn(), turn -> pipeline.skipRestOfTurn());
+        pipeline.register(TurnPhaseEnum.END, TurnSchedule.everyTurn(), turn -> log.add("end"));
+        pipeline.register(TurnPhaseEnum.ITEMS, TurnSchedule.everyTurn(), turn -> log.add("items"));
+        PhaseTimings timings = new PhaseTimings();
+        pipeline.setPhaseTimer(timings);
+        pipeline.runTurn();
+        pipeline.runTurn();
+        assertEquals(log.size(), 0);
+        assertEquals(timings.getCount(TurnPhaseEnum.START), 2L);
+        assertEquals(timings.getCount(TurnPhaseEnum.ITEMS), 0L);
+    }
+}